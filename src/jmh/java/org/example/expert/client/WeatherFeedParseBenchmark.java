@@ -0,0 +1,60 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.dto.WeatherDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날씨 피드 응답 본문을 WeatherDto[] 로 바꾼 뒤 찾던 기존 방식과 토큰 단위로 바로 색인하는 방식을 비교합니다.
+ * 피드는 src/main/resources/weather-synthetic.json (생성한 366일치 합성 데이터, 같은 형식) 을 사용합니다.
+ * ./gradlew jmh -Pjmh.includes=WeatherFeedParseBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherFeedParseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] feed;
+    private String today;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        try (InputStream in = WeatherFeedParseBenchmark.class.getResourceAsStream("/weather-synthetic.json")) {
+            feed = in.readAllBytes();
+        }
+        today = LocalDate.of(2024, 12, 31).format(DateTimeFormatter.ofPattern("MM-dd"));
+    }
+
+    // 기존 getTodayWeather: 배열 전체를 DTO 로 만든 뒤 오늘 날짜를 선형 탐색
+    @Benchmark
+    public String dtoArrayScan() throws IOException {
+        WeatherDto[] weatherArray = objectMapper.readValue(new ByteArrayInputStream(feed), WeatherDto[].class);
+        for (WeatherDto weatherDto : weatherArray) {
+            if (today.equals(weatherDto.getDate())) {
+                return weatherDto.getWeather();
+            }
+        }
+        return null;
+    }
+
+    // DTO 배열을 만든 뒤 1년치 색인으로 옮기는 방식
+    @Benchmark
+    public WeatherIndex dtoArrayIndex() throws IOException {
+        return WeatherIndex.of(objectMapper.readValue(new ByteArrayInputStream(feed), WeatherDto[].class));
+    }
+
+    @Benchmark
+    public WeatherIndex streamingIndex() throws IOException {
+        return WeatherIndex.parse(new ByteArrayInputStream(feed));
+    }
+}
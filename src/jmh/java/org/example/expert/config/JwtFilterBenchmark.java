@@ -0,0 +1,63 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청 하나가 JwtFilter 를 통과하는 비용을 claims 캐시 사용 여부별로 비교합니다.
+ * ./gradlew jmh -Pjmh.includes=JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtFilter cachedFilter;
+    private JwtFilter uncachedFilter;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        Field secretKey = ReflectionUtils.findField(JwtUtil.class, "secretKey");
+        ReflectionUtils.makeAccessible(secretKey);
+        ReflectionUtils.setField(secretKey, jwtUtil,
+                Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()));
+        jwtUtil.init();
+
+        RoutePolicy routePolicy = new FilterConfig(jwtUtil, null, null).routePolicy();
+        TokenDenylist tokenDenylist = new TokenDenylist(60_000);
+        cachedFilter = new JwtFilter(jwtUtil, new JwtClaimsCache(10_000), routePolicy, tokenDenylist);
+        uncachedFilter = new JwtFilter(jwtUtil, new JwtClaimsCache(0), routePolicy, tokenDenylist);
+        bearerToken = jwtUtil.createToken(1L, "bench@example.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse cached() throws Exception {
+        return filter(cachedFilter);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse uncached() throws Exception {
+        return filter(uncachedFilter);
+    }
+
+    private MockHttpServletResponse filter(JwtFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 jjwt 파서를 만들던 기존 방식과 JwtVerifier 의 검증 비용을 비교합니다.
+ * ./gradlew jmh -Pjmh.includes=JwtVerifierBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifierBenchmark {
+
+    private static final byte[] SECRET = "benchmark-secret-key-benchmark-secret".getBytes();
+
+    private Key key;
+    private JwtVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET);
+        verifier = new JwtVerifier(SECRET);
+
+        Date now = new Date();
+        token = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "bench@example.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(now.getTime() + 60 * 60 * 1000L))
+                .setIssuedAt(now)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims jjwtParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public JwtClaims jwtVerifier() {
+        return verifier.verify(token);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bcrypt 비용별 encode / matches 시간. password.hash.target-ms 를 정할 때 참고합니다.
+ * ./gradlew jmh -Pjmh.includes=PasswordEncoderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class PasswordEncoderBenchmark {
+
+    private static final char[] PASSWORD = "Benchmark1234".toCharArray();
+
+    @Param({"4", "6", "8", "10", "12", "14"})
+    public int cost;
+
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoded = BCrypt.withDefaults().hashToString(cost, PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return BCrypt.withDefaults().hashToString(cost, PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return BCrypt.verifyer().verify(PASSWORD, encoded).verified;
+    }
+}
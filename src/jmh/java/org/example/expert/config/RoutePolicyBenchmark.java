@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import org.example.expert.config.RoutePolicy.AccessLevel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 의 접근 수준 결정 비용과, 공개 경로 요청이 필터를 통과하는 비용을 측정합니다.
+ * ./gradlew jmh -Pjmh.includes=RoutePolicyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoutePolicyBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"/auth/signin", "/admin/users/1", "/todos/1/comments", "/actuator/health"})
+    public String path;
+
+    private RoutePolicy routePolicy;
+    private JwtFilter filter;
+
+    @Setup
+    public void setUp() {
+        FilterConfig filterConfig = new FilterConfig(null, null, null);
+        routePolicy = filterConfig.routePolicy();
+        filter = new JwtFilter(null, new JwtClaimsCache(0), routePolicy, new TokenDenylist(60_000));
+    }
+
+    @Benchmark
+    public AccessLevel routePolicy() {
+        return routePolicy.resolve(path);
+    }
+
+    // 기존 필터의 startsWith 분기
+    @Benchmark
+    public AccessLevel startsWithChain() {
+        if (path.startsWith("/auth")) {
+            return AccessLevel.PUBLIC;
+        }
+        if (path.startsWith("/admin")) {
+            return AccessLevel.ADMIN;
+        }
+        return AccessLevel.AUTHENTICATED;
+    }
+
+    // 토큰이 없는 요청이 필터에서 통과되거나 거절되기까지의 비용
+    @Benchmark
+    public MockHttpServletResponse filterWithoutToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtFilter 가 수행하는 폐기 여부 확인 비용. 폐기된 토큰이 많아도 일정한지 확인합니다.
+ * ./gradlew jmh -Pjmh.includes=TokenDenylistBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenDenylistBenchmark {
+
+    @Param({"0", "10000", "1000000"})
+    public int revokedTokens;
+
+    private TokenDenylist tokenDenylist;
+    private String activeTokenId;
+    private String revokedTokenId;
+    private long expiration;
+
+    @Setup
+    public void setUp() {
+        tokenDenylist = new TokenDenylist(60_000);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < revokedTokens; i++) {
+            tokenDenylist.revoke(UUID.randomUUID().toString(), now + (i % 60) * 60_000L + 1);
+        }
+
+        expiration = now + JwtUtil.TOKEN_TIME;
+        activeTokenId = UUID.randomUUID().toString();
+        revokedTokenId = UUID.randomUUID().toString();
+        tokenDenylist.revoke(revokedTokenId, expiration);
+    }
+
+    @Benchmark
+    public boolean activeToken() {
+        return tokenDenylist.isRevoked(activeTokenId, expiration);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return tokenDenylist.isRevoked(revokedTokenId, expiration);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST /todos/batch 의 저장 부분(TodoRepository.insertAll)을 JDBC 배치 크기별로 실행해 초당 INSERT 행 수를 잽니다.
+ * 일정 1000개와 담당자 1000행을 한 트랜잭션에서 저장하며, 점수(ops/s)가 곧 초당 행 수입니다.
+ * H2 인메모리 DB 라 네트워크 왕복이 없으므로 MySQL(rewriteBatchedStatements=true)에서는 차이가 더 큽니다.
+ * ./gradlew jmh -Pjmh.includes=TodoBatchInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+// 한 번의 호출이 무거워 JIT 가 자리 잡기까지 15초 정도 걸립니다.
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoBatchInsertBenchmark {
+
+    private static final int TODOS = 1000;
+
+    @Param({"1", "10", "50", "200"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private JdbcTemplate jdbcTemplate;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:todo-batch;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "weather.provider=synthetic",
+                        "password.hash.target-ms=1",
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()))
+                .run();
+
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+                "VALUES (1, 'user@example.com', 'password', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        todoRepository = context.getBean(TodoRepository.class);
+        user = User.fromAuthUser(new AuthUser(1L, "user@example.com", UserRole.USER));
+    }
+
+    // 테이블이 계속 커지지 않도록 측정 구간마다 비웁니다.
+    @Setup(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TODOS * 2)
+    public void insertAll() {
+        List<Todo> todos = new ArrayList<>(TODOS);
+        for (int i = 0; i < TODOS; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        todoRepository.insertAll(todos, batchSize);
+    }
+}
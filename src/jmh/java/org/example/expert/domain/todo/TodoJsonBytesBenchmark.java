@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos/{todoId}, GET /todos/{todoId}/managers 응답 본문을 만드는 비용을 비교합니다.
+ * jackson 계열은 매번 조회 결과를 Jackson 으로 직렬화하고(일정 단건은 TodoResponseCache 를 거친 DTO),
+ * bytes 계열은 JsonBytesCache 의 직렬화된 바이트를 그대로 씁니다. todoHydrated 는 두 캐시 없이 DB 에서 읽는 경우입니다.
+ * ./gradlew jmh -Pjmh.includes=TodoJsonBytesBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class TodoJsonBytesBenchmark {
+
+    private static final int TODOS = 1000;
+
+    @Param({"heap", "direct"})
+    public String storage;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private ManagerService managerService;
+    private TodoRepository todoRepository;
+    private ObjectMapper objectMapper;
+    private TransactionTemplate readOnly;
+    private OutputStream sink;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:todo-json;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "weather.provider=synthetic",
+                        "password.hash.target-ms=1",
+                        "json.cache.storage=" + storage,
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()))
+                .run();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+                "SELECT X, 'user' || X || '@example.com', 'password', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, 100)");
+        jdbcTemplate.execute("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+                "SELECT X, 'title' || X, REPEAT('contents ', 20) || X, 'Sunny', MOD(X, 100) + 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, " + TODOS + ")");
+        // 일정마다 담당자 3명
+        jdbcTemplate.execute("INSERT INTO managers (id, user_id, todo_id) " +
+                "SELECT X, MOD(X, 100) + 1, MOD(X, " + TODOS + ") + 1 FROM SYSTEM_RANGE(1, " + (TODOS * 3) + ")");
+
+        todoService = context.getBean(TodoService.class);
+        managerService = context.getBean(ManagerService.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        sink = new OutputStream() {
+            @Override
+            public void write(int b) {
+                blackhole.consume(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                blackhole.consume(b);
+                blackhole.consume(len);
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextTodoId() {
+        return next++ % TODOS + 1;
+    }
+
+    @Benchmark
+    public void todoHydrated() {
+        long todoId = nextTodoId();
+        readOnly.executeWithoutResult(status -> write(todoRepository.findResponseById(todoId).orElseThrow()));
+    }
+
+    @Benchmark
+    public void todoJackson() {
+        write(todoService.getTodo(nextTodoId()));
+    }
+
+    @Benchmark
+    public void todoBytes() throws IOException {
+        todoService.getTodoJson(nextTodoId()).writeTo(sink);
+    }
+
+    @Benchmark
+    public void managersJackson() {
+        long todoId = nextTodoId();
+        write(readOnly.execute(status -> managerService.getManagers(todoId)));
+    }
+
+    @Benchmark
+    public void managersBytes() throws IOException {
+        managerService.getManagersJson(nextTodoId()).writeTo(sink);
+    }
+
+    private void write(Object response) {
+        try {
+            objectMapper.writeValue(sink, response);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos 한 번(10건 + count)을 처리할 때의 할당량을, 엔티티를 JOIN FETCH 로 읽어 응답으로 옮기던 기존 방식과
+ * TodoResponse 생성자 프로젝션으로 바로 읽는 방식으로 비교합니다. H2 인메모리 DB 로 애플리케이션 컨텍스트를 띄워 실행합니다.
+ * ./gradlew jmh -Pjmh.includes=TodoListAllocationBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class TodoListAllocationBenchmark {
+
+    private static final int SIZE = 10;
+
+    @Param({"1", "100"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:todo-list;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "weather.provider=synthetic",
+                        "password.hash.target-ms=1",
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()))
+                .run();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.execute("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+                "SELECT X, 'user' || X || '@example.com', 'password', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, 100)");
+        jdbcTemplate.execute("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+                "SELECT X, 'title' || X, 'contents' || X, 'Sunny', MOD(X, 100) + 1, " +
+                "DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'), DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, 10000)");
+
+        todoService = context.getBean(TodoService.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 기존 getTodos: Todo 와 User 를 영속성 컨텍스트에 올린 뒤 필드를 TodoResponse 로 옮김
+    @Benchmark
+    public Page<TodoResponse> entities() {
+        return readOnly.execute(status -> {
+            List<Todo> todos = entityManager
+                    .createQuery("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC", Todo.class)
+                    .setFirstResult((page - 1) * SIZE)
+                    .setMaxResults(SIZE)
+                    .getResultList();
+            long total = entityManager
+                    .createQuery("SELECT COUNT(t) FROM Todo t LEFT JOIN t.user u", Long.class)
+                    .getSingleResult();
+
+            List<TodoResponse> content = new ArrayList<>(todos.size());
+            for (Todo todo : todos) {
+                User user = todo.getUser();
+                content.add(new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(),
+                        new UserResponse(user.getId(), user.getEmail()), todo.getCreatedAt(), todo.getModifiedAt()));
+            }
+            return new PageImpl<>(content, PageRequest.of(page - 1, SIZE), total);
+        });
+    }
+
+    @Benchmark
+    public Page<TodoResponse> projection() {
+        return todoService.getTodos(page, SIZE);
+    }
+}
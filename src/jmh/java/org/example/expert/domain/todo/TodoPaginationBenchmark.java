@@ -0,0 +1,130 @@
+package org.example.expert.domain.todo;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /todos 의 오프셋 페이지네이션(데이터 + count 쿼리)과 (modified_at, id) 커서 페이지네이션을 1페이지와 10,000페이지에서 비교합니다.
+ * H2 인메모리 DB 에 Hibernate 가 만드는 것과 같은 todos, users 테이블을 만들고 rows 만큼 일정을 넣은 뒤,
+ * TodoRepository 의 JPQL 이 만들어 내는 것과 같은 SQL 을 JDBC 로 실행합니다.
+ * ./gradlew jmh -Pjmh.includes=TodoPaginationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TodoPaginationBenchmark {
+
+    private static final int SIZE = 10;
+
+    private static final String OFFSET_PAGE = "SELECT t.*, u.id, u.email FROM todos t LEFT JOIN users u ON u.id = t.user_id " +
+            "ORDER BY t.modified_at DESC OFFSET ? ROWS FETCH FIRST ? ROWS ONLY";
+    private static final String COUNT = "SELECT COUNT(t.id) FROM todos t LEFT JOIN users u ON u.id = t.user_id";
+    private static final String CURSOR_PAGE = "SELECT t.*, u.id, u.email FROM todos t LEFT JOIN users u ON u.id = t.user_id " +
+            "WHERE t.modified_at <= ? AND (t.modified_at < ? OR t.id < ?) " +
+            "ORDER BY t.modified_at DESC, t.id DESC FETCH FIRST ? ROWS ONLY";
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"1", "10000"})
+    public int page;
+
+    private Connection connection;
+    private PreparedStatement offsetPage;
+    private PreparedStatement count;
+    private PreparedStatement cursorPage;
+    private Timestamp cursorModifiedAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // jmh jar 에서는 java.sql.Driver 서비스 파일이 MySQL 드라이버와 겹치므로 직접 등록합니다.
+        Class.forName("org.h2.Driver");
+        connection = DriverManager.getConnection("jdbc:h2:mem:pagination;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(255))");
+            statement.execute("CREATE TABLE todos (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(255), " +
+                    "contents VARCHAR(255), weather VARCHAR(255), user_id BIGINT NOT NULL, " +
+                    "created_at TIMESTAMP(6), modified_at TIMESTAMP(6))");
+            statement.execute("INSERT INTO users SELECT X, 'user' || X || '@example.com' FROM SYSTEM_RANGE(1, 1000)");
+            // 두 행씩 같은 modified_at 을 갖도록 해 id 로 순서가 갈리는 경우를 포함합니다.
+            statement.execute("INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) " +
+                    "SELECT 'title' || X, 'contents', 'Sunny', MOD(X, 1000) + 1, " +
+                    "DATEADD('SECOND', X, TIMESTAMP '2020-01-01 00:00:00'), " +
+                    "DATEADD('SECOND', X / 2, TIMESTAMP '2020-01-01 00:00:00') " +
+                    "FROM SYSTEM_RANGE(1, " + rows + ")");
+            statement.execute("CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC)");
+        }
+
+        offsetPage = connection.prepareStatement(OFFSET_PAGE);
+        count = connection.prepareStatement(COUNT);
+        cursorPage = connection.prepareStatement(CURSOR_PAGE);
+
+        // page 번째 페이지의 커서 = 바로 앞 페이지의 마지막 행
+        if (page > 1) {
+            try (PreparedStatement previous = connection.prepareStatement(
+                    "SELECT modified_at, id FROM todos ORDER BY modified_at DESC, id DESC OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY")) {
+                previous.setInt(1, (page - 1) * SIZE - 1);
+                try (ResultSet resultSet = previous.executeQuery()) {
+                    resultSet.next();
+                    cursorModifiedAt = resultSet.getTimestamp(1);
+                    cursorId = resultSet.getLong(2);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    // 기존 Page 응답: LIMIT/OFFSET 데이터 쿼리 + 전체 count 쿼리
+    @Benchmark
+    public void offset(Blackhole blackhole) throws SQLException {
+        offsetPage.setInt(1, (page - 1) * SIZE);
+        offsetPage.setInt(2, SIZE);
+        consume(offsetPage, blackhole);
+        consume(count, blackhole);
+    }
+
+    // 커서 응답: 커서 위치부터 size + 1 행
+    @Benchmark
+    public void cursor(Blackhole blackhole) throws SQLException {
+        if (page == 1) {
+            try (PreparedStatement first = connection.prepareStatement(
+                    "SELECT t.*, u.id, u.email FROM todos t LEFT JOIN users u ON u.id = t.user_id " +
+                            "ORDER BY t.modified_at DESC, t.id DESC FETCH FIRST ? ROWS ONLY")) {
+                first.setInt(1, SIZE + 1);
+                consume(first, blackhole);
+            }
+            return;
+        }
+        cursorPage.setTimestamp(1, cursorModifiedAt);
+        cursorPage.setTimestamp(2, cursorModifiedAt);
+        cursorPage.setLong(3, cursorId);
+        cursorPage.setInt(4, SIZE + 1);
+        consume(cursorPage, blackhole);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.example.expert.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 풀)와 가상 스레드 모드의 처리량, 지연 시간 분포를 비교하기 위한 폐쇄형(closed-loop) 부하 생성기.
+ * 동시 사용자 수만큼 가상 스레드가 응답을 받자마자 다음 요청을 보내며, 워밍업 이후의 요청만 집계합니다.
+ *
+ * <pre>
+ * 1. ./gradlew bootRun                                              (플랫폼 스레드)
+ *    ./gradlew loadTest -PloadTest.args="--label=platform --concurrency=1000"
+ * 2. ./gradlew bootRun --args='--spring.profiles.active=virtual'    (가상 스레드)
+ *    ./gradlew loadTest -PloadTest.args="--label=virtual --concurrency=1000"
+ * </pre>
+ * 두 실행은 같은 DB 상태와 같은 인자로 돌려야 비교할 수 있습니다.
+ * 기본 대상은 인증 필터와 DB 조회를 거치는 GET /users/{userId} 이며, 시작할 때 부하용 유저를 가입시켜 토큰을 얻습니다.
+ * --body 를 주면 POST 로 보냅니다. 일정 생성 경로는 weather-synthetic 프로필로 외부 API 의 지연을 고정한 채 측정할 수 있습니다.
+ * <pre>
+ *    ./gradlew bootRun --args='--spring.profiles.active=weather-synthetic'
+ *    ./gradlew loadTest -PloadTest.args='--path=/todos --body={"title":"t","contents":"c"}'
+ * </pre>
+ */
+public class ThreadModeLoadTest {
+
+    private static final Pattern BEARER_TOKEN = Pattern.compile("\"bearerToken\"\\s*:\\s*\"Bearer ([^\"]+)\"");
+    private static final Pattern SUBJECT = Pattern.compile("\"sub\"\\s*:\\s*\"(\\d+)\"");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String path = options.getOrDefault("path", "/users/{userId}");
+        String body = options.get("body");
+        String label = options.getOrDefault("label", "server");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clients)
+                    .build();
+
+            String token = signup(httpClient, baseUrl);
+            URI target = URI.create(baseUrl + path.replace("{userId}", userId(token)));
+
+            Result result = run(httpClient, clients, target, token, body, concurrency, warmup, duration);
+            System.out.println(result.report(label, concurrency, target));
+        }
+    }
+
+    private static Result run(HttpClient httpClient, ExecutorService clients, URI target, String token, String body,
+                              int concurrency, Duration warmup, Duration duration) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30));
+        HttpRequest request = body == null
+                ? builder.GET().build()
+                : builder.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        LongAdder errors = new LongAdder();
+
+        Future<?>[] workers = new Future<?>[concurrency];
+        LatencyRecorder[] recorders = new LatencyRecorder[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            LatencyRecorder recorder = recorders[i] = new LatencyRecorder();
+            workers[i] = clients.submit(() -> {
+                long start;
+                while ((start = System.nanoTime()) < measureUntil) {
+                    boolean ok;
+                    try {
+                        ok = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    if (start >= measureFrom) {
+                        if (ok) {
+                            recorder.record(System.nanoTime() - start);
+                        } else {
+                            errors.increment();
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        return new Result(LatencyRecorder.merge(recorders), errors.sum(), duration);
+    }
+
+    private static String signup(HttpClient httpClient, String baseUrl) throws Exception {
+        String email = "load-" + UUID.randomUUID() + "@example.com";
+        String body = "{\"email\":\"" + email + "\",\"password\":\"password\",\"userRole\":\"USER\"}";
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/auth/signup"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        Matcher matcher = BEARER_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("부하용 유저 가입에 실패했습니다. (" + response.statusCode() + ") " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static String userId(String token) {
+        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+        Matcher matcher = SUBJECT.matcher(payload);
+        if (!matcher.find()) {
+            throw new IllegalStateException("토큰에서 유저 id 를 찾을 수 없습니다.");
+        }
+        return matcher.group(1);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    // 워커마다 따로 두어 기록 시 경합이 없도록 합니다.
+    private static final class LatencyRecorder {
+
+        private long[] nanos = new long[1024];
+        private int size;
+
+        private void record(long latency) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latency;
+        }
+
+        private static long[] merge(LatencyRecorder[] recorders) {
+            int total = 0;
+            for (LatencyRecorder recorder : recorders) {
+                total += recorder.size;
+            }
+            long[] merged = new long[total];
+            int offset = 0;
+            for (LatencyRecorder recorder : recorders) {
+                System.arraycopy(recorder.nanos, 0, merged, offset, recorder.size);
+                offset += recorder.size;
+            }
+            Arrays.sort(merged);
+            return merged;
+        }
+    }
+
+    private record Result(long[] sortedNanos, long errors, Duration duration) {
+
+        private String report(String label, int concurrency, URI target) {
+            return String.format(
+                    "[%s] %s 동시 %d%n" +
+                            "  요청 %d (오류 %d), 처리량 %.1f req/s%n" +
+                            "  p50 %.2fms, p90 %.2fms, p99 %.2fms, p99.9 %.2fms, max %.2fms",
+                    label, target, concurrency,
+                    sortedNanos.length, errors, sortedNanos.length / (duration.toMillis() / 1000.0),
+                    percentile(0.50), percentile(0.90), percentile(0.99), percentile(0.999), percentile(1.0));
+        }
+
+        private double percentile(double quantile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 연속 실패가 failureThreshold 번 쌓이면 openDuration 동안 호출을 막고(OPEN),
+ * 그 뒤 한 번의 시험 호출(HALF_OPEN)이 성공하면 다시 호출을 허용(CLOSED)합니다.
+ * 상태 변경은 짧은 계산뿐이지만, 가상 스레드를 캐리어에 고정시키지 않도록 synchronized 대신 ReentrantLock 을 씁니다.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long rejected;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    // 호출해도 되면 true, 막혀 있으면 false 를 반환합니다. HALF_OPEN 에서는 시험 호출 하나만 허용합니다.
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN && clock.millis() - openedAt >= openMillis) {
+                state = State.HALF_OPEN;
+                return true;
+            }
+            rejected++;
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onFailure() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = clock.millis();
+                consecutiveFailures = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State state() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long rejectedCount() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
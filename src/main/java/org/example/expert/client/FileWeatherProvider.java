@@ -0,0 +1,39 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+
+/**
+ * 날씨 API 와 같은 형식의 로컬 JSON 파일을 기동 시 한 번 읽어 사용합니다. 네트워크 없이 일정 생성을 부하 테스트할 때 사용합니다.
+ * 파일은 weather.file.location 으로 지정합니다. weather-file 프로필은 클래스패스의 weather-synthetic.json 을 쓰는데,
+ * 이는 실제 기록이 아닌 생성한 366일치 합성 데이터입니다. 실제 피드는 weather.file.location=file:... 로 지정합니다.
+ */
+@Slf4j(topic = "FileWeatherProvider")
+@Component
+@ConditionalOnProperty(name = "weather.provider", havingValue = "file")
+public class FileWeatherProvider implements WeatherProvider {
+
+    private final WeatherIndex index;
+
+    public FileWeatherProvider(@Value("${weather.file.location}") Resource location) {
+        try (InputStream in = location.getInputStream()) {
+            this.index = WeatherIndex.parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("날씨 파일을 읽지 못했습니다. (" + location + ")", e);
+        }
+        log.info("날씨 파일을 읽었습니다. ({}, {}일)", location, index.size());
+    }
+
+    @Override
+    public String findWeather(LocalDate date) {
+        return index.get(date);
+    }
+}
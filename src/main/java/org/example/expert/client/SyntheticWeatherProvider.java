@@ -0,0 +1,52 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 호출마다 지정한 만큼 지연하고 지정한 비율로 실패하는 가짜 날씨 제공자.
+ * 느리거나 불안정한 외부 API 를 흉내 내 일정 생성 경로를 측정할 때 사용합니다. 날씨는 날짜로 정해집니다.
+ */
+@Component
+@ConditionalOnProperty(name = "weather.provider", havingValue = "synthetic")
+public class SyntheticWeatherProvider implements WeatherProvider {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double failureRate;
+
+    public SyntheticWeatherProvider(
+            @Value("${weather.synthetic.latency-ms:100}") long latencyMillis,
+            @Value("${weather.synthetic.jitter-ms:0}") long jitterMillis,
+            @Value("${weather.synthetic.failure-rate:0}") double failureRate
+    ) {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public String findWeather(LocalDate date) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMillis + (jitterMillis > 0 ? random.nextLong(jitterMillis + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+            }
+        }
+        if (random.nextDouble() < failureRate) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. (synthetic)");
+        }
+        return WEATHERS[date.getDayOfYear() % WEATHERS.length];
+    }
+}
@@ -1,62 +1,231 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 날씨 피드 전체를 한 번 받아 1년치 날짜별 색인(WeatherIndex)으로 들고 있습니다.
+ * 받아온 색인은 로컬 스냅샷 파일로 저장해 두므로 다음 기동 시에는 네트워크 없이도 바로 조회할 수 있고,
+ * 피드는 백그라운드에서 주기적으로 다시 받아 교체합니다. 다시 받는 데 실패하면 기존 색인을 계속 사용합니다.
+ * 색인이 아직 없을 때 동시에 들어온 요청은 하나의 외부 호출을 함께 기다립니다.
+ * 외부 호출은 WeatherHttpConfig 의 커넥션 풀과 시간 제한(호출 전체 제한 포함)을 사용하고, 연속으로 실패하면 서킷 브레이커가 한동안 호출을 막습니다.
+ */
+@Slf4j(topic = "WeatherClient")
 @Component
-public class WeatherClient {
+@ConditionalOnProperty(name = "weather.provider", havingValue = "http", matchIfMissing = true)
+public class WeatherClient implements WeatherProvider, MeterBinder {
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Path snapshotPath;
+    private final CircuitBreaker circuitBreaker;
+    private final Clock clock;
 
-    public WeatherClient(RestTemplateBuilder builder) {
+    private final AtomicReference<CompletableFuture<WeatherIndex>> inFlight = new AtomicReference<>();
+    private volatile WeatherIndex index;
+
+    @Autowired
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            ClientHttpRequestFactory weatherRequestFactory,
+            @Value("${weather.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.snapshot-path:data/weather.snapshot}") String snapshotPath,
+            @Value("${weather.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit.open-ms:30000}") long openMillis
+    ) {
+        this(
+                builder.requestFactory(() -> weatherRequestFactory),
+                baseUrl,
+                snapshotPath.isBlank() ? null : Path.of(snapshotPath),
+                new CircuitBreaker(failureThreshold, Duration.ofMillis(openMillis), Clock.systemDefaultZone()),
+                Clock.systemDefaultZone()
+        );
+    }
+
+    WeatherClient(RestTemplateBuilder builder, String baseUrl, Path snapshotPath, CircuitBreaker circuitBreaker, Clock clock) {
         this.restTemplate = builder.build();
+        this.baseUrl = baseUrl;
+        this.snapshotPath = snapshotPath;
+        this.circuitBreaker = circuitBreaker;
+        this.clock = clock;
+        this.index = readSnapshot();
     }
 
+    @Override
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        String weather = findWeather(LocalDate.now(clock));
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    @Override
+    public String findWeather(LocalDate date) {
+        WeatherIndex current = index;
+        if (current == null) {
+            current = join(load(false));
         }
+        return current.get(date);
+    }
 
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    @Scheduled(
+            initialDelayString = "${weather.refresh-initial-delay-ms:0}",
+            fixedDelayString = "${weather.refresh-interval-ms:21600000}"
+    )
+    public void refresh() {
+        try {
+            join(load(true));
+        } catch (RuntimeException e) {
+            log.warn("날씨 피드를 갱신하지 못해 기존 색인을 사용합니다. ({})", e.getMessage());
+        }
+    }
+
+    // 진행 중인 호출이 있으면 그 결과를 함께 기다리고, 없으면 직접 받아옵니다.
+    private CompletableFuture<WeatherIndex> load(boolean force) {
+        while (true) {
+            CompletableFuture<WeatherIndex> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+
+            CompletableFuture<WeatherIndex> mine = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(null, mine)) {
+                continue;
+            }
+            try {
+                WeatherIndex current = index;
+                if (!force && current != null) {
+                    // 앞선 호출이 방금 받아온 경우
+                    mine.complete(current);
+                } else {
+                    WeatherIndex fresh = fetch();
+                    index = fresh;
+                    writeSnapshot(fresh);
+                    mine.complete(fresh);
+                }
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+            } finally {
+                inFlight.set(null);
+            }
+            return mine;
         }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("0: CLOSED, 1: HALF_OPEN, 2: OPEN")
+                .register(registry);
+        FunctionCounter.builder("weather.circuit.rejected", circuitBreaker, CircuitBreaker::rejectedCount)
+                .register(registry);
+    }
 
-        String today = getCurrentDate();
+    private WeatherIndex fetch() {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServerException("날씨 서비스를 일시적으로 사용할 수 없습니다.");
+        }
+        // Error 를 포함해 어떤 이유로 끝나든 결과를 기록해야 HALF_OPEN 시험 호출이 풀립니다.
+        boolean succeeded = false;
+        try {
+            WeatherIndex fresh = request();
+            succeeded = true;
+            return fresh;
+        } catch (RestClientException e) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. (" + e.getMessage() + ")");
+        } finally {
+            if (succeeded) {
+                circuitBreaker.onSuccess();
+            } else {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+    private WeatherIndex request() {
+        WeatherIndex fresh = restTemplate.execute(buildWeatherApiUri(), HttpMethod.GET, null, response -> {
+            if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
             }
+            return WeatherIndex.parse(response.getBody());
+        });
+
+        if (fresh == null || fresh.size() == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+        return fresh;
+    }
+
+    private WeatherIndex readSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return null;
+        }
+        try {
+            WeatherIndex snapshot = WeatherIndex.readFrom(snapshotPath);
+            log.info("날씨 스냅샷을 읽었습니다. ({}, {}일)", snapshotPath, snapshot.size());
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 읽지 못했습니다. ({}, {})", snapshotPath, e.getMessage());
+            return null;
         }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private void writeSnapshot(WeatherIndex fresh) {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            fresh.writeTo(snapshotPath);
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 저장하지 못했습니다. ({}, {})", snapshotPath, e.getMessage());
+        }
+    }
+
+    private static WeatherIndex join(CompletableFuture<WeatherIndex> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
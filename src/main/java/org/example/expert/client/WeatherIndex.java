@@ -0,0 +1,219 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.client.dto.WeatherDto;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날씨 피드를 MM-dd 366개(2월 29일 포함) 칸의 배열로 만든 색인.
+ * 조회는 배열 접근 한 번이며, 같은 날씨 문자열은 하나의 인스턴스를 공유합니다.
+ * 피드는 DTO 배열을 만들지 않고 토큰 단위로 읽어 바로 칸에 채우며, 366칸이 모두 차면 나머지는 읽지 않습니다.
+ * 스냅샷은 날씨 문자열 사전과 날짜별 사전 번호(2바이트)만 저장합니다.
+ */
+final class WeatherIndex {
+
+    static final int DAYS = 366;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private static final int SNAPSHOT_MAGIC = 0x57584958;
+    private static final int SNAPSHOT_VERSION = 1;
+    // 윤년 기준 각 월 1일의 칸 번호
+    private static final int[] MONTH_OFFSETS = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+    private static final int[] MONTH_LENGTHS = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final String[] weatherByDay;
+    private final int size;
+
+    private WeatherIndex(String[] weatherByDay) {
+        this.weatherByDay = weatherByDay;
+        int filled = 0;
+        for (String weather : weatherByDay) {
+            if (weather != null) {
+                filled++;
+            }
+        }
+        this.size = filled;
+    }
+
+    // 형식이 맞지 않는 날짜는 건너뛰고, 같은 날짜가 여러 번 나오면 처음 값을 사용합니다.
+    static WeatherIndex of(WeatherDto[] feed) {
+        String[] weatherByDay = new String[DAYS];
+        Map<String, String> dictionary = new HashMap<>();
+        for (WeatherDto weatherDto : feed) {
+            int slot = slot(weatherDto.getDate());
+            if (slot >= 0 && weatherByDay[slot] == null && weatherDto.getWeather() != null) {
+                weatherByDay[slot] = dictionary.computeIfAbsent(weatherDto.getWeather(), weather -> weather);
+            }
+        }
+        return new WeatherIndex(weatherByDay);
+    }
+
+    // [{"date":"MM-dd","weather":"..."}, ...] 형식의 피드를 읽습니다. 그 밖의 필드는 건너뜁니다.
+    static WeatherIndex parse(InputStream in) throws IOException {
+        String[] weatherByDay = new String[DAYS];
+        List<String> dictionary = new ArrayList<>();
+        int filled = 0;
+
+        try (JsonParser parser = JSON.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "날씨 피드는 배열이어야 합니다.");
+            }
+            while (filled < DAYS && parser.nextToken() == JsonToken.START_OBJECT) {
+                int slot = -1;
+                String weather = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (value == JsonToken.VALUE_STRING && "date".equals(field)) {
+                        slot = parser.getTextLength() == 5 ? slot(parser.getTextCharacters(), parser.getTextOffset()) : -1;
+                    } else if (value == JsonToken.VALUE_STRING && "weather".equals(field)) {
+                        weather = intern(dictionary, parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (slot >= 0 && weather != null && weatherByDay[slot] == null) {
+                    weatherByDay[slot] = weather;
+                    filled++;
+                }
+            }
+        }
+        return new WeatherIndex(weatherByDay);
+    }
+
+    String get(LocalDate date) {
+        return weatherByDay[MONTH_OFFSETS[date.getMonthValue() - 1] + date.getDayOfMonth() - 1];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void writeTo(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(new DataOutputStream(out));
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static WeatherIndex readFrom(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return read(new DataInputStream(in));
+        }
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+        List<String> dictionary = new ArrayList<>();
+        Map<String, Integer> codes = new HashMap<>();
+        short[] codeByDay = new short[DAYS];
+        for (int i = 0; i < DAYS; i++) {
+            String weather = weatherByDay[i];
+            if (weather != null) {
+                codeByDay[i] = (short) (codes.computeIfAbsent(weather, key -> {
+                    dictionary.add(key);
+                    return dictionary.size();
+                }).intValue());
+            }
+        }
+
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeByte(SNAPSHOT_VERSION);
+        out.writeShort(dictionary.size());
+        for (String weather : dictionary) {
+            out.writeUTF(weather);
+        }
+        for (short code : codeByDay) {
+            out.writeShort(code);
+        }
+        out.flush();
+    }
+
+    private static WeatherIndex read(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readByte() != SNAPSHOT_VERSION) {
+            throw new IOException("날씨 스냅샷 형식이 올바르지 않습니다.");
+        }
+        String[] dictionary = new String[in.readUnsignedShort()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = in.readUTF();
+        }
+
+        String[] weatherByDay = new String[DAYS];
+        for (int i = 0; i < DAYS; i++) {
+            int code = in.readUnsignedShort();
+            if (code > dictionary.length) {
+                throw new IOException("날씨 스냅샷 형식이 올바르지 않습니다.");
+            }
+            weatherByDay[i] = code == 0 ? null : dictionary[code - 1];
+        }
+        return new WeatherIndex(weatherByDay);
+    }
+
+    private static int slot(String date) {
+        return date == null || date.length() != 5 ? -1 : slot(date.toCharArray(), 0);
+    }
+
+    // offset 부터 5글자 "MM-dd" 를 칸 번호로 바꾸고, 형식이 맞지 않으면 -1 을 반환합니다.
+    private static int slot(char[] date, int offset) {
+        if (date[offset + 2] != '-') {
+            return -1;
+        }
+        int month = twoDigits(date[offset], date[offset + 1]);
+        int day = twoDigits(date[offset + 3], date[offset + 4]);
+        if (month < 1 || month > 12 || day < 1 || day > MONTH_LENGTHS[month - 1]) {
+            return -1;
+        }
+        return MONTH_OFFSETS[month - 1] + day - 1;
+    }
+
+    private static int twoDigits(char tens, char ones) {
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    // 날씨 종류는 많지 않으므로 이미 만든 문자열과 비교해 같은 값이면 새로 만들지 않습니다.
+    private static String intern(List<String> dictionary, char[] chars, int offset, int length) {
+        for (String known : dictionary) {
+            if (known.length() == length && regionEquals(known, chars, offset)) {
+                return known;
+            }
+        }
+        String weather = new String(chars, offset, length);
+        dictionary.add(weather);
+        return weather;
+    }
+
+    private static boolean regionEquals(String known, char[] chars, int offset) {
+        for (int i = 0; i < known.length(); i++) {
+            if (known.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.time.LocalDate;
+
+/**
+ * 일정에 기록할 날씨를 제공합니다.
+ * weather.provider 로 구현을 고르며, 프로필(weather-file, weather-synthetic)로도 바꿀 수 있습니다.
+ * <ul>
+ *     <li>http (기본): 외부 날씨 API (WeatherClient)</li>
+ *     <li>file: 로컬 JSON 파일 (FileWeatherProvider)</li>
+ *     <li>synthetic: 지연 시간과 실패율을 조절할 수 있는 가짜 구현 (SyntheticWeatherProvider)</li>
+ * </ul>
+ */
+public interface WeatherProvider {
+
+    // 해당 날짜의 날씨가 없으면 null 을 반환합니다.
+    String findWeather(LocalDate date);
+
+    default String getTodayWeather() {
+        String weather = findWeather(LocalDate.now());
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import jakarta.servlet.ServletRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+
+/**
+ * JwtFilter 가 만든 인증 유저(AuthUser)를 요청 속성과 현재 스레드에 보관합니다.
+ * 요청 밖의 비동기 작업에는 AuthUserTaskDecorator 가 같은 AuthUser 를 넘겨줍니다.
+ */
+public final class AuthUserContext {
+
+    public static final String REQUEST_ATTRIBUTE = AuthUser.class.getName();
+
+    private static final ThreadLocal<AuthUser> CURRENT = new ThreadLocal<>();
+
+    private AuthUserContext() {
+    }
+
+    public static AuthUser get() {
+        return CURRENT.get();
+    }
+
+    public static AuthUser from(ServletRequest request) {
+        return (AuthUser) request.getAttribute(REQUEST_ATTRIBUTE);
+    }
+
+    static void set(ServletRequest request, AuthUser authUser) {
+        request.setAttribute(REQUEST_ATTRIBUTE, authUser);
+        CURRENT.set(authUser);
+    }
+
+    static void set(AuthUser authUser) {
+        CURRENT.set(authUser);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+// @Async, 비동기 MVC 처럼 Spring 이 관리하는 executor 로 넘어가는 작업에도 현재 AuthUser 를 전달합니다.
+@Component
+public class AuthUserTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        AuthUser authUser = AuthUserContext.get();
+        if (authUser == null) {
+            return runnable;
+        }
+        return () -> {
+            AuthUser previous = AuthUserContext.get();
+            AuthUserContext.set(authUser);
+            try {
+                runnable.run();
+            } finally {
+                if (previous == null) {
+                    AuthUserContext.clear();
+                } else {
+                    AuthUserContext.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.expert.config;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 하나에 전체 시간 제한을 거는 HttpComponents 요청 팩토리.
+ * 연결, 읽기 시간 제한은 한 번의 대기에만 적용되어 바이트를 조금씩 계속 보내는 서버는 호출을 얼마든지 붙잡을 수 있으므로,
+ * 요청마다 callTimeout 뒤에 요청을 abort 하는 타이머를 겁니다. abort 는 소켓을 닫아 응답 본문을 읽던 중이어도 IOException 으로 끝납니다.
+ * 응답을 닫거나 요청이 실패하면 타이머를 바로 취소하므로, 끝난 요청이 시간 제한까지 대기열에 남지 않습니다.
+ */
+public class DeadlineHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    // postProcessHttpRequest 에서 건 타이머를 같은 스레드의 createRequest 로 넘깁니다.
+    private static final ThreadLocal<ScheduledFuture<?>> SCHEDULED = new ThreadLocal<>();
+
+    private final long callTimeoutMillis;
+    private final ScheduledThreadPoolExecutor timer;
+
+    public DeadlineHttpRequestFactory(HttpClient httpClient, Duration callTimeout) {
+        super(httpClient);
+        this.callTimeoutMillis = callTimeout.toMillis();
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "http-call-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        try {
+            ClientHttpRequest request = super.createRequest(uri, httpMethod);
+            return new DeadlineRequest(request, SCHEDULED.get());
+        } catch (IOException | RuntimeException e) {
+            cancel(SCHEDULED.get());
+            throw e;
+        } finally {
+            SCHEDULED.remove();
+        }
+    }
+
+    @Override
+    protected void postProcessHttpRequest(ClassicHttpRequest request) {
+        if (request instanceof Cancellable cancellable) {
+            SCHEDULED.set(timer.schedule(cancellable::cancel, callTimeoutMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    // 대기 중인 타이머 수 (테스트, 모니터링용)
+    public int pendingDeadlines() {
+        return timer.getQueue().size();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        timer.shutdownNow();
+        super.destroy();
+    }
+
+    private static void cancel(ScheduledFuture<?> deadline) {
+        if (deadline != null) {
+            deadline.cancel(false);
+        }
+    }
+
+    private record DeadlineRequest(ClientHttpRequest delegate, ScheduledFuture<?> deadline) implements ClientHttpRequest {
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            try {
+                return new DeadlineResponse(delegate.execute(), deadline);
+            } catch (IOException | RuntimeException | Error e) {
+                cancel(deadline);
+                throw e;
+            }
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    private record DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> deadline) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                cancel(deadline);
+            }
+        }
+    }
+}
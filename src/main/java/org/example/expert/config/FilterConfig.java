@@ -10,13 +10,25 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final JwtClaimsCache claimsCache;
+    private final TokenDenylist tokenDenylist;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, claimsCache, routePolicy(), tokenDenylist));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
     }
+
+    // 경로별 접근 수준. 여기에 없는 경로는 로그인이 필요합니다.
+    @Bean
+    public RoutePolicy routePolicy() {
+        return RoutePolicy.builder()
+                .permitAll("/auth/**", "/error", "/favicon.ico", "/static/**", "/actuator/health/**")
+                .authenticated("/auth/logout")
+                .admin("/admin/**")
+                .build();
+    }
 }
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 직렬화가 끝난 JSON 응답 본문. 컨트롤러가 반환하면 JsonBytesHttpMessageConverter 가 바이트를 그대로 씁니다.
+ * direct 로 만들면 본문을 힙 밖에 두어 GC 가 복사하거나 훑지 않습니다.
+ */
+public final class JsonBytes {
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final ScratchPool<byte[]> CHUNKS = new ScratchPool<>(() -> new byte[CHUNK_SIZE]);
+
+    private final byte[] heap;
+    private final ByteBuffer direct;
+
+    private JsonBytes(byte[] heap, ByteBuffer direct) {
+        this.heap = heap;
+        this.direct = direct;
+    }
+
+    public static JsonBytes heap(byte[] json) {
+        return new JsonBytes(json, null);
+    }
+
+    public static JsonBytes direct(byte[] json) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(json.length);
+        buffer.put(json).flip();
+        return new JsonBytes(null, buffer.asReadOnlyBuffer());
+    }
+
+    public int length() {
+        return heap != null ? heap.length : direct.capacity();
+    }
+
+    public boolean isDirect() {
+        return direct != null;
+    }
+
+    // 서블릿 OutputStream 은 byte[] 만 받으므로 direct 버퍼는 풀에서 빌린 조각 배열로 나눠 복사합니다.
+    public void writeTo(OutputStream out) throws IOException {
+        if (heap != null) {
+            out.write(heap);
+            return;
+        }
+
+        ByteBuffer source = direct.duplicate();
+        byte[] chunk = CHUNKS.acquire();
+        try {
+            while (source.hasRemaining()) {
+                int length = Math.min(chunk.length, source.remaining());
+                source.get(chunk, 0, length);
+                out.write(chunk, 0, length);
+            }
+        } finally {
+            CHUNKS.release(chunk);
+        }
+    }
+}
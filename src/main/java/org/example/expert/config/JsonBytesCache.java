@@ -0,0 +1,99 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 자주 읽히고 잘 바뀌지 않는 응답을 직렬화가 끝난 JSON 바이트로 보관하는 캐시.
+ * (리소스, id, 버전) 을 키로 쓰므로 데이터가 바뀌면 버전만 올리면 되고, 이전 버전 항목은 쓰이지 않다가 밀려납니다.
+ * json.cache.storage=direct 면 본문을 direct 버퍼(힙 밖)에 두며, 본문 크기의 합은 json.cache.maximum-bytes 로 제한합니다.
+ */
+@Component
+public class JsonBytesCache implements MeterBinder {
+
+    // 키와 캐시 항목 자체가 차지하는 대략적인 크기
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final ObjectMapper objectMapper;
+    private final boolean direct;
+    private final Cache<Key, JsonBytes> cache;
+
+    @Autowired
+    public JsonBytesCache(
+            ObjectMapper objectMapper,
+            @Value("${json.cache.maximum-bytes:33554432}") long maximumBytes,
+            @Value("${json.cache.ttl-ms:600000}") long ttlMillis,
+            @Value("${json.cache.storage:heap}") String storage
+    ) {
+        this(objectMapper, maximumBytes, Duration.ofMillis(ttlMillis), "direct".equalsIgnoreCase(storage));
+    }
+
+    JsonBytesCache(ObjectMapper objectMapper, long maximumBytes, Duration ttl, boolean direct) {
+        this.objectMapper = objectMapper;
+        this.direct = direct;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, JsonBytes json) -> ENTRY_OVERHEAD + json.length())
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 JSON 을 반환하고, 없으면 loader 의 결과를 직렬화해 캐시에 넣습니다.
+     * version 은 loader 를 부르기 전에 읽은 값이어야 합니다. loader 가 던진 예외는 그대로 전파되고 캐시되지 않습니다.
+     * 같은 키를 동시에 못 찾은 요청은 각자 직렬화하며, 조회 자체의 중복은 loader 쪽 캐시가 막습니다.
+     */
+    public JsonBytes get(String resource, long id, long version, Supplier<?> loader) {
+        Key key = new Key(resource, id, version);
+        JsonBytes cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        JsonBytes json = serialize(loader.get());
+        cache.put(key, json);
+        return json;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등 (cache=json.bytes)
+        CaffeineCacheMetrics.monitor(registry, cache, "json.bytes");
+        Gauge.builder("json.bytes.cache.weight", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .tag("storage", direct ? "direct" : "heap")
+                .baseUnit("bytes")
+                .description("캐시된 JSON 본문과 항목 오버헤드의 합")
+                .register(registry);
+    }
+
+    private JsonBytes serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return direct ? JsonBytes.direct(json) : JsonBytes.heap(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Key(String resource, long id, long version) {
+    }
+}
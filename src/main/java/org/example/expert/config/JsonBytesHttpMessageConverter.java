@@ -0,0 +1,44 @@
+package org.example.expert.config;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * JsonBytes 를 Jackson 을 거치지 않고 응답 스트림에 그대로 씁니다. 쓰기 전용입니다.
+ */
+public class JsonBytesHttpMessageConverter extends AbstractHttpMessageConverter<JsonBytes> {
+
+    public JsonBytesHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonBytes.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonBytes readInternal(Class<? extends JsonBytes> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JsonBytes 는 요청 본문으로 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(JsonBytes jsonBytes, MediaType contentType) {
+        return (long) jsonBytes.length();
+    }
+
+    @Override
+    protected void writeInternal(JsonBytes jsonBytes, HttpOutputMessage outputMessage) throws IOException {
+        jsonBytes.writeTo(outputMessage.getBody());
+    }
+}
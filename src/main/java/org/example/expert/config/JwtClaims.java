@@ -0,0 +1,38 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+
+/**
+ * JwtUtil 이 발급하는 토큰의 claims (jti, sub, email, userRole, iat, exp).
+ * 시간 값은 epoch millis 이고, jti 가 없는 이전 토큰의 tokenId 는 null 입니다.
+ * sub, email, userRole 은 검증 시 한 번 만든 AuthUser 로 들고 있어 캐시된 claims 는 같은 AuthUser 를 그대로 재사용합니다.
+ */
+@Getter
+public class JwtClaims {
+
+    private final String tokenId;
+    private final AuthUser authUser;
+    private final long issuedAt;
+    private final long expiration;
+
+    public JwtClaims(String tokenId, long userId, String email, UserRole userRole, long issuedAt, long expiration) {
+        this.tokenId = tokenId;
+        this.authUser = new AuthUser(userId, email, userRole);
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    public long getUserId() {
+        return authUser.getId();
+    }
+
+    public String getEmail() {
+        return authUser.getEmail();
+    }
+
+    public UserRole getUserRole() {
+        return authUser.getUserRole();
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 이미 검증된 JWT 의 claims 를 토큰 해시(SHA-256) 기준으로 보관하는 캐시.
+ * 각 항목은 토큰의 exp 시각에 만료되므로 만료된 토큰은 항상 다시 검증을 거칩니다.
+ * 항목 수가 jwt.cache.maximum-size 를 넘으면 Caffeine 이 잘 안 쓰이는 토큰부터 내보내며, 0 으로 두면 캐시하지 않습니다.
+ */
+@Component
+public class JwtClaimsCache implements MeterBinder {
+
+    private static final ScratchPool<MessageDigest> SHA_256 = new ScratchPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final boolean enabled;
+    private final Cache<TokenDigest, JwtClaims> cache;
+
+    public JwtClaimsCache(@Value("${jwt.cache.maximum-size:10000}") int maximumSize) {
+        this.enabled = maximumSize > 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, maximumSize))
+                .expireAfter(new UntilTokenExpiration())
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 claims 를 반환하고, 없거나 만료되었다면 loader 로 검증한 결과를 캐시에 넣습니다.
+     * loader 가 던지는 예외(만료, 서명 오류 등)는 그대로 전파되며 캐시에 남지 않습니다.
+     */
+    public JwtClaims get(String token, Function<String, JwtClaims> loader) {
+        if (!enabled) {
+            return loader.apply(token);
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        JwtClaims cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 검증은 맵의 잠금 밖에서 합니다. 같은 토큰을 동시에 못 찾은 요청은 각자 검증하고 같은 결과를 넣습니다.
+        JwtClaims claims = loader.apply(token);
+        if (claims != null && claims.getExpiration() > System.currentTimeMillis()) {
+            cache.put(key, claims);
+        }
+        return claims;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.claims.cache.requests", cache, c -> c.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.claims.cache.requests", cache, c -> c.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("jwt.claims.cache.evictions", cache, c -> c.stats().evictionCount())
+                .register(registry);
+        Gauge.builder("jwt.claims.cache.size", cache, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    // 항목마다 남은 수명을 토큰의 exp 까지로 잡습니다. 읽어도 수명은 늘어나지 않습니다.
+    private static final class UntilTokenExpiration implements Expiry<TokenDigest, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, JwtClaims claims, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, claims.getExpiration() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static final class TokenDigest {
+
+        private final byte[] digest;
+        private final int hash;
+
+        private TokenDigest(byte[] digest) {
+            this.digest = digest;
+            this.hash = Arrays.hashCode(digest);
+        }
+
+        static TokenDigest of(String token) {
+            MessageDigest sha256 = SHA_256.acquire();
+            try {
+                return new TokenDigest(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            } finally {
+                SHA_256.release(sha256);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TokenDigest other && Arrays.equals(digest, other.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
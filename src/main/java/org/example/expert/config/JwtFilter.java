@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -10,7 +9,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.RoutePolicy.AccessLevel;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.web.util.UrlPathHelper;
 
 import java.io.IOException;
 
@@ -19,6 +21,9 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final JwtClaimsCache claimsCache;
+    private final RoutePolicy routePolicy;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -30,9 +35,11 @@ public class JwtFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String url = httpRequest.getRequestURI();
+        // 컨트롤러 매핑과 같은 기준으로 판단하도록 디코딩하고 ";" 매개변수를 뺀 lookup path 를 씁니다.
+        AccessLevel accessLevel = routePolicy.resolve(UrlPathHelper.defaultInstance.getLookupPathForRequest(httpRequest));
 
-        if (url.startsWith("/auth")) {
+        // 공개 경로는 토큰을 보지 않고 바로 통과시킵니다.
+        if (accessLevel == AccessLevel.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
@@ -48,30 +55,34 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
+            // JWT 유효성 검사와 claims 추출 (이미 검증된 토큰이면 캐시에서 가져옴)
+            JwtClaims claims = claimsCache.get(jwt, jwtUtil::extractClaims);
             if (claims == null) {
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            // 만료 전에 폐기(logout)된 토큰인 경우 401을 반환합니다.
+            if (tokenDenylist.isRevoked(claims.getTokenId(), claims.getExpiration())) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+                return;
+            }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            AuthUser authUser = claims.getAuthUser();
 
-            if (url.startsWith("/admin")) {
-                // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
-                    httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
-                    return;
-                }
-                chain.doFilter(request, response);
+            // 관리자 권한이 없는 경우 403을 반환합니다.
+            if (accessLevel == AccessLevel.ADMIN && !UserRole.ADMIN.equals(authUser.getUserRole())) {
+                httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
                 return;
             }
 
-            chain.doFilter(request, response);
+            // ArgumentResolver, CustomLog 등은 이 AuthUser 를 그대로 사용합니다.
+            AuthUserContext.set(httpRequest, authUser);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                AuthUserContext.clear();
+            }
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
@@ -0,0 +1,473 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+/**
+ * JwtUtil 이 발급하는 HS256 토큰 전용 검증기.
+ * Mac 과 버퍼를 풀에서 빌려 재사용하고, Base64URL 을 버퍼에 바로 디코딩한 뒤 필요한 claim 만 읽습니다.
+ * 실패 시에는 jjwt 파서와 같은 예외 타입을 던지므로 JwtFilter 의 응답 코드는 그대로 유지됩니다.
+ */
+public final class JwtVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private static final byte[] ALG = ascii("alg");
+    private static final byte[] ZIP = ascii("zip");
+    private static final byte[] HS256 = ascii("HS256");
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] EMAIL = ascii("email");
+    private static final byte[] USER_ROLE = ascii("userRole");
+    private static final byte[] IAT = ascii("iat");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] JTI = ascii("jti");
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final byte[][] ROLE_NAMES = new byte[ROLES.length][];
+
+    private static final byte[] BASE64URL = new byte[128];
+
+    static {
+        for (int i = 0; i < ROLES.length; i++) {
+            ROLE_NAMES[i] = ascii(ROLES[i].name());
+        }
+
+        Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final SecretKeySpec key;
+    private final ScratchPool<Scratch> scratchPool;
+
+    public JwtVerifier(byte[] secret) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.scratchPool = new ScratchPool<>(() -> new Scratch(key));
+    }
+
+    public JwtClaims verify(String token) {
+        if (token == null) {
+            throw new MalformedJwtException("JWT String argument cannot be null.");
+        }
+
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new MalformedJwtException("JWT strings must contain exactly 2 period characters.");
+        }
+        if (secondDot == token.length() - 1) {
+            throw new UnsupportedJwtException("Unsigned Claims JWTs are not supported.");
+        }
+
+        Scratch s = scratchPool.acquire();
+        JwtClaims claims;
+        try {
+            int headerLength = s.decode(token, 0, firstDot);
+            s.readHeader(headerLength);
+
+            s.verifySignature(token, secondDot);
+
+            int payloadLength = s.decode(token, firstDot + 1, secondDot);
+            claims = s.readClaims(payloadLength);
+        } finally {
+            scratchPool.release(s);
+        }
+
+        if (System.currentTimeMillis() > claims.getExpiration()) {
+            throw new ExpiredJwtException(null, null, "JWT expired at " + claims.getExpiration());
+        }
+        return claims;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 풀에서 빌려 재사용하는 Mac 과 디코딩 버퍼, JSON 커서
+    private static final class Scratch {
+
+        private final Mac mac;
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final byte[] actual = new byte[SIGNATURE_LENGTH];
+        private byte[] buffer = new byte[512];
+        private int pos;
+        private int end;
+
+        private Scratch(SecretKeySpec key) {
+            try {
+                this.mac = Mac.getInstance(ALGORITHM);
+                this.mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void verifySignature(String token, int signingInputLength) {
+            ensureCapacity(signingInputLength);
+            for (int i = 0; i < signingInputLength; i++) {
+                buffer[i] = (byte) token.charAt(i);
+            }
+
+            int signatureStart = signingInputLength + 1;
+            int signatureLength = token.length() - signatureStart;
+            if (decodedLength(signatureLength) != SIGNATURE_LENGTH) {
+                throw new SignatureException("JWT signature length does not match HS256.");
+            }
+            decodeInto(token, signatureStart, token.length(), actual);
+
+            try {
+                mac.update(buffer, 0, signingInputLength);
+                mac.doFinal(expected, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
+
+            int diff = 0;
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                diff |= expected[i] ^ actual[i];
+            }
+            if (diff != 0) {
+                throw new SignatureException("JWT signature does not match locally computed signature.");
+            }
+        }
+
+        private int decode(String token, int from, int to) {
+            int length = decodedLength(to - from);
+            ensureCapacity(length);
+            decodeInto(token, from, to, buffer);
+            return length;
+        }
+
+        private void readHeader(int length) {
+            boolean hs256 = false;
+            begin(length);
+            expect('{');
+            if (!consume('}')) {
+                do {
+                    int keyStart = readKey();
+                    int keyEnd = pos - 1;
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    if (rangeEquals(keyStart, keyEnd, ALG)) {
+                        int valueStart = readRawString();
+                        if (!rangeEquals(valueStart, pos - 1, HS256)) {
+                            throw new UnsupportedJwtException("Only HS256 signed JWTs are supported.");
+                        }
+                        hs256 = true;
+                    } else if (rangeEquals(keyStart, keyEnd, ZIP)) {
+                        throw new UnsupportedJwtException("Compressed JWTs are not supported.");
+                    } else {
+                        skipValue();
+                    }
+                } while (nextMember());
+            }
+            finish();
+            if (!hs256) {
+                throw new UnsupportedJwtException("Only HS256 signed JWTs are supported.");
+            }
+        }
+
+        private JwtClaims readClaims(int length) {
+            long userId = -1;
+            String email = null;
+            UserRole userRole = null;
+            long issuedAt = 0;
+            long expiration = -1;
+            String tokenId = null;
+
+            begin(length);
+            expect('{');
+            if (!consume('}')) {
+                do {
+                    int keyStart = readKey();
+                    int keyEnd = pos - 1;
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    if (rangeEquals(keyStart, keyEnd, SUB)) {
+                        userId = readSubject();
+                    } else if (rangeEquals(keyStart, keyEnd, EMAIL)) {
+                        email = readString();
+                    } else if (rangeEquals(keyStart, keyEnd, USER_ROLE)) {
+                        userRole = readUserRole();
+                    } else if (rangeEquals(keyStart, keyEnd, IAT)) {
+                        issuedAt = readLong() * 1000;
+                    } else if (rangeEquals(keyStart, keyEnd, EXP)) {
+                        expiration = readLong() * 1000;
+                    } else if (rangeEquals(keyStart, keyEnd, JTI)) {
+                        tokenId = readString();
+                    } else {
+                        skipValue();
+                    }
+                } while (nextMember());
+            }
+            finish();
+
+            if (userId < 0 || userRole == null || expiration < 0) {
+                throw new JwtException("JWT claims are missing sub, userRole or exp.");
+            }
+            return new JwtClaims(tokenId, userId, email, userRole, issuedAt, expiration);
+        }
+
+        private long readSubject() {
+            int start = readRawString();
+            int stop = pos - 1;
+            if (start == stop || stop - start > 18) {
+                throw new JwtException("JWT subject is not a user id.");
+            }
+            long value = 0;
+            for (int i = start; i < stop; i++) {
+                int digit = buffer[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new JwtException("JWT subject is not a user id.");
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private UserRole readUserRole() {
+            int start = readRawString();
+            int stop = pos - 1;
+            for (int i = 0; i < ROLES.length; i++) {
+                if (rangeEquals(start, stop, ROLE_NAMES[i])) {
+                    return ROLES[i];
+                }
+            }
+            throw new JwtException("JWT userRole is not supported.");
+        }
+
+        private long readLong() {
+            int start = pos;
+            long value = 0;
+            while (pos < end && buffer[pos] >= '0' && buffer[pos] <= '9') {
+                value = value * 10 + (buffer[pos++] - '0');
+            }
+            if (pos == start || pos - start > 18) {
+                throw new MalformedJwtException("JWT numeric claim is invalid.");
+            }
+            return value;
+        }
+
+        private String readString() {
+            expect('"');
+            int start = pos;
+            while (pos < end && buffer[pos] != '"' && buffer[pos] != '\\') {
+                pos++;
+            }
+            if (pos < end && buffer[pos] == '"') {
+                return new String(buffer, start, pos++ - start, StandardCharsets.UTF_8);
+            }
+
+            // 이스케이프가 있는 드문 경우
+            StringBuilder sb = new StringBuilder(new String(buffer, start, pos - start, StandardCharsets.UTF_8));
+            while (true) {
+                if (pos >= end) {
+                    throw new MalformedJwtException("Unterminated JSON string.");
+                }
+                byte b = buffer[pos++];
+                if (b == '"') {
+                    return sb.toString();
+                }
+                if (b != '\\') {
+                    int runStart = pos - 1;
+                    while (pos < end && buffer[pos] != '"' && buffer[pos] != '\\') {
+                        pos++;
+                    }
+                    sb.append(new String(buffer, runStart, pos - runStart, StandardCharsets.UTF_8));
+                    continue;
+                }
+                if (pos >= end) {
+                    throw new MalformedJwtException("Unterminated JSON string.");
+                }
+                byte escaped = buffer[pos++];
+                switch (escaped) {
+                    case '"', '\\', '/' -> sb.append((char) escaped);
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > end) {
+                            throw new MalformedJwtException("Invalid JSON unicode escape.");
+                        }
+                        int c = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(buffer[pos++], 16);
+                            if (digit < 0) {
+                                throw new MalformedJwtException("Invalid JSON unicode escape.");
+                            }
+                            c = (c << 4) | digit;
+                        }
+                        sb.append((char) c);
+                    }
+                    default -> throw new MalformedJwtException("Invalid JSON escape.");
+                }
+            }
+        }
+
+        // 이스케이프 없는 문자열을 읽고 시작 위치를 반환합니다. 끝 위치는 pos - 1 입니다.
+        private int readRawString() {
+            expect('"');
+            int start = pos;
+            while (pos < end && buffer[pos] != '"') {
+                if (buffer[pos] == '\\') {
+                    throw new MalformedJwtException("Unexpected escape in JWT claim.");
+                }
+                pos++;
+            }
+            expect('"');
+            return start;
+        }
+
+        private int readKey() {
+            skipWhitespace();
+            expect('"');
+            int start = pos;
+            while (pos < end && buffer[pos] != '"') {
+                if (buffer[pos] == '\\') {
+                    pos++;
+                }
+                pos++;
+            }
+            expect('"');
+            return start;
+        }
+
+        private void skipValue() {
+            if (pos >= end) {
+                throw new MalformedJwtException("Unexpected end of JSON.");
+            }
+            byte b = buffer[pos];
+            if (b == '"') {
+                readKey();
+                return;
+            }
+            if (b == '{' || b == '[') {
+                int depth = 0;
+                do {
+                    b = buffer[pos];
+                    if (b == '"') {
+                        readKey();
+                        continue;
+                    }
+                    if (b == '{' || b == '[') {
+                        depth++;
+                    } else if (b == '}' || b == ']') {
+                        depth--;
+                    }
+                    pos++;
+                } while (depth > 0 && pos < end);
+                if (depth != 0) {
+                    throw new MalformedJwtException("Unexpected end of JSON.");
+                }
+                return;
+            }
+            while (pos < end && buffer[pos] != ',' && buffer[pos] != '}' && buffer[pos] != ']'
+                    && !isWhitespace(buffer[pos])) {
+                pos++;
+            }
+        }
+
+        private boolean nextMember() {
+            skipWhitespace();
+            if (consume(',')) {
+                return true;
+            }
+            expect('}');
+            return false;
+        }
+
+        private void begin(int length) {
+            pos = 0;
+            end = length;
+            skipWhitespace();
+        }
+
+        private void finish() {
+            skipWhitespace();
+            if (pos != end) {
+                throw new MalformedJwtException("Unexpected trailing JSON content.");
+            }
+        }
+
+        private boolean consume(char c) {
+            skipWhitespace();
+            if (pos < end && buffer[pos] == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (pos >= end || buffer[pos] != c) {
+                throw new MalformedJwtException("Invalid JWT JSON: expected '" + c + "'.");
+            }
+            pos++;
+        }
+
+        private void skipWhitespace() {
+            while (pos < end && isWhitespace(buffer[pos])) {
+                pos++;
+            }
+        }
+
+        private boolean rangeEquals(int start, int stop, byte[] expected) {
+            return Arrays.equals(buffer, start, stop, expected, 0, expected.length);
+        }
+
+        private void ensureCapacity(int length) {
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+        }
+    }
+
+    private static int decodedLength(int encodedLength) {
+        if (encodedLength % 4 == 1) {
+            throw new MalformedJwtException("Invalid Base64URL length.");
+        }
+        return encodedLength / 4 * 3 + Math.max(0, encodedLength % 4 - 1);
+    }
+
+    // 패딩 없는 Base64URL 을 target 에 바로 디코딩합니다.
+    private static void decodeInto(String source, int from, int to, byte[] target) {
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) {
+                throw new MalformedJwtException("Invalid Base64URL character in JWT.");
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[out++] = (byte) (bits >> bitCount);
+            }
+        }
+    }
+}
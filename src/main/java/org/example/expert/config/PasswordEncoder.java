@@ -1,17 +1,79 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+@Slf4j(topic = "PasswordEncoder")
 @Component
+@RequiredArgsConstructor
 public class PasswordEncoder {
 
+    private static final int MAX_CALIBRATED_COST = 16;
+
+    // bcrypt 는 요청 스레드가 아닌 전용 풀에서 계산합니다.
+    private final PasswordHashExecutor hashExecutor;
+
+    // 해시 한 번에 허용할 시간. 0 이면 보정하지 않고 최소 비용을 사용합니다.
+    @Value("${password.hash.target-ms:100}")
+    private long targetMillis;
+    private volatile int cost = BCrypt.MIN_COST;
+
+    // 이 서버에서 목표 시간 안에 끝나는 가장 큰 비용을 찾습니다.
+    @PostConstruct
+    public void calibrate() {
+        if (targetMillis <= 0) {
+            return;
+        }
+
+        int calibrated = BCrypt.MIN_COST;
+        measureMillis(calibrated); // warm-up
+        long elapsed = measureMillis(calibrated);
+        while (calibrated < MAX_CALIBRATED_COST && elapsed * 2 <= targetMillis) {
+            calibrated++;
+            elapsed = measureMillis(calibrated);
+        }
+
+        cost = calibrated;
+        log.info("bcrypt cost {} 로 설정했습니다. (목표 {}ms, 측정 {}ms)", calibrated, targetMillis, elapsed);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        int currentCost = cost;
+        return hashExecutor.execute(() ->
+                BCrypt.withDefaults().hashToString(currentCost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return hashExecutor.execute(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    // 저장된 해시의 비용이 현재 비용과 다르면 true ($2a$10$... 형식)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        int tens = Character.digit(encodedPassword.charAt(4), 10);
+        int ones = Character.digit(encodedPassword.charAt(5), 10);
+        if (tens < 0 || ones < 0) {
+            return false;
+        }
+        return tens * 10 + ones != cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    private static long measureMillis(int cost) {
+        long start = System.nanoTime();
+        BCrypt.withDefaults().hash(cost, "calibration-password".toCharArray());
+        return (System.nanoTime() - start) / 1_000_000;
     }
 }
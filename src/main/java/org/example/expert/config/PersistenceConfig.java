@@ -1,9 +1,18 @@
 package org.example.expert.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // 일정과 담당자 INSERT 가 번갈아 나와도 테이블별로 모아 하나의 JDBC 배치로 보냅니다.
+    @Bean
+    public HibernatePropertiesCustomizer insertOrderingProperties() {
+        return properties -> properties.put(AvailableSettings.ORDER_INSERTS, true);
+    }
 }
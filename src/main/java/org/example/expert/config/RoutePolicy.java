@@ -0,0 +1,165 @@
+package org.example.expert.config;
+
+import java.util.Arrays;
+
+/**
+ * URL 패턴별 접근 수준을 경로 세그먼트 트라이로 컴파일한 정책 테이블.
+ * 패턴은 "/auth/**"(하위 전체, /auth 포함), "/todos/*"(세그먼트 하나), "/favicon.ico"(정확히 일치) 형태를 지원합니다.
+ * 같은 위치에서는 정확한 세그먼트가 "*" 보다 우선하고, 더 깊은 패턴이 얕은 "/**" 패턴보다 우선합니다.
+ */
+public class RoutePolicy {
+
+    public enum AccessLevel {
+        PUBLIC, AUTHENTICATED, ADMIN
+    }
+
+    private final Node root;
+    private final AccessLevel defaultLevel;
+
+    private RoutePolicy(Node root, AccessLevel defaultLevel) {
+        this.root = root;
+        this.defaultLevel = defaultLevel;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 요청 경로를 한 번 훑으면서 접근 수준을 결정합니다. 세그먼트를 잘라내지 않으므로 할당이 없습니다.
+     * Spring MVC 처럼 세그먼트의 ";" 뒤(매트릭스 변수)는 비교에서 뺍니다. "/admin;x/users" 도 "/admin/users" 로 봅니다.
+     * 퍼센트 인코딩은 풀지 않으므로 요청에서는 디코딩된 lookup path 를 넘겨야 합니다.
+     */
+    public AccessLevel resolve(String path) {
+        Node node = root;
+        AccessLevel matched = root.subtree;
+        int length = path.length();
+        int start = 0;
+
+        while (start < length) {
+            if (path.charAt(start) == '/') {
+                start++;
+                continue;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            int segmentEnd = path.indexOf(';', start);
+            if (segmentEnd < 0 || segmentEnd > end) {
+                segmentEnd = end;
+            }
+            if (segmentEnd == start) {
+                start = end;
+                continue;
+            }
+
+            Node next = node.child(path, start, segmentEnd - start);
+            if (next == null) {
+                return matched != null ? matched : defaultLevel;
+            }
+            node = next;
+            if (node.subtree != null) {
+                matched = node.subtree;
+            }
+            start = end;
+        }
+
+        if (node.exact != null) {
+            return node.exact;
+        }
+        return matched != null ? matched : defaultLevel;
+    }
+
+    public static class Builder {
+
+        private final Node root = new Node();
+        private AccessLevel defaultLevel = AccessLevel.AUTHENTICATED;
+
+        public Builder permitAll(String... patterns) {
+            return add(AccessLevel.PUBLIC, patterns);
+        }
+
+        public Builder authenticated(String... patterns) {
+            return add(AccessLevel.AUTHENTICATED, patterns);
+        }
+
+        public Builder admin(String... patterns) {
+            return add(AccessLevel.ADMIN, patterns);
+        }
+
+        public Builder defaultLevel(AccessLevel defaultLevel) {
+            this.defaultLevel = defaultLevel;
+            return this;
+        }
+
+        public RoutePolicy build() {
+            return new RoutePolicy(root, defaultLevel);
+        }
+
+        private Builder add(AccessLevel level, String... patterns) {
+            for (String pattern : patterns) {
+                Node node = root;
+                boolean subtree = false;
+                for (String segment : pattern.split("/")) {
+                    if (segment.isEmpty()) {
+                        continue;
+                    }
+                    if (subtree) {
+                        throw new IllegalArgumentException("'**' 는 패턴의 마지막에만 올 수 있습니다: " + pattern);
+                    }
+                    if (segment.equals("**")) {
+                        subtree = true;
+                        continue;
+                    }
+                    node = node.getOrCreateChild(segment);
+                }
+
+                if (subtree) {
+                    node.subtree = level;
+                } else {
+                    node.exact = level;
+                }
+            }
+            return this;
+        }
+    }
+
+    private static class Node {
+
+        private String[] segments = new String[0];
+        private Node[] children = new Node[0];
+        private Node wildcard;
+        private AccessLevel exact;
+        private AccessLevel subtree;
+
+        private Node child(String path, int offset, int length) {
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.length() == length && path.regionMatches(offset, segment, 0, length)) {
+                    return children[i];
+                }
+            }
+            return wildcard;
+        }
+
+        private Node getOrCreateChild(String segment) {
+            if (segment.equals("*")) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = segment;
+            children[children.length - 1] = new Node();
+            return children[children.length - 1];
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.expert.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Mac, MessageDigest 처럼 만들기 비싸고 스레드에 안전하지 않은 객체를 빌려 쓰는 풀.
+ * 가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal 에 두면 요청마다 새 객체를 만들게 됩니다.
+ * 풀이 비어 있으면 새로 만들고, 가득 차 있으면 반납된 객체는 버립니다.
+ */
+final class ScratchPool<T> {
+
+    private final ArrayBlockingQueue<T> idle;
+    private final Supplier<T> factory;
+
+    ScratchPool(Supplier<T> factory) {
+        this(Runtime.getRuntime().availableProcessors() * 2, factory);
+    }
+
+    ScratchPool(int capacity, Supplier<T> factory) {
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+    }
+
+    T acquire() {
+        T scratch = idle.poll();
+        return scratch != null ? scratch : factory.get();
+    }
+
+    void release(T scratch) {
+        idle.offer(scratch);
+    }
+}
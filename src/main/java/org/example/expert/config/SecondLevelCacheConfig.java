@@ -0,0 +1,122 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * User, Todo 엔티티와 쿼리 결과를 담는 Hibernate 2차 캐시.
+ * 프로세스 안의 Caffeine(JCache) 캐시를 영역별 최대 개수, TTL 로 제한해 사용하며,
+ * 엔티티 변경과 JPQL 벌크 UPDATE/DELETE 시 Hibernate 가 해당 영역을 무효화합니다.
+ * 무효화는 이 노드에서만 일어나므로, 비밀번호 해시와 권한을 담은 user 영역은 TTL 을 짧게(기본 30초) 두어
+ * 다른 노드의 변경이 그 안에 반영되게 하고, 로그인 조회(UserRepository.findByEmail)는 캐시를 거치지 않습니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String USER_REGION = "user";
+    private static final String TODO_REGION = "todo";
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // 애플리케이션 컨텍스트마다 따로 만들어 테스트처럼 컨텍스트가 여럿 떠 있어도 캐시를 공유하지 않도록 합니다.
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${second-level-cache.user.max-size:10000}") long userMaxSize,
+            @Value("${second-level-cache.user.ttl-ms:30000}") long userTtlMillis,
+            @Value("${second-level-cache.todo.max-size:10000}") long todoMaxSize,
+            @Value("${second-level-cache.todo.ttl-ms:600000}") long todoTtlMillis,
+            @Value("${second-level-cache.query.max-size:1000}") long queryMaxSize,
+            @Value("${second-level-cache.query.ttl-ms:60000}") long queryTtlMillis
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("second-level-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        cacheManager.createCache(USER_REGION, bounded(userMaxSize, userTtlMillis));
+        cacheManager.createCache(TODO_REGION, bounded(todoMaxSize, todoTtlMillis));
+        cacheManager.createCache(QUERY_RESULTS_REGION, bounded(queryMaxSize, queryTtlMillis));
+        // 테이블별 마지막 변경 시각. 쿼리 결과가 최신인지 판단하는 기준이라 개수 제한이나 만료를 두지 않습니다.
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, byReference());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // 위에서 만들지 않은 영역을 쓰려 하면 제한 없는 캐시를 만들지 않고 기동에 실패합니다.
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            // 통계를 켜면 세션마다 INFO 로 남기는 Session Metrics 로그는 끕니다.
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    // hibernate.cache.{hits,misses,puts} 와 hibernate.cache.hit.ratio (region 태그)
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : new String[]{USER_REGION, TODO_REGION}) {
+                CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                bind(registry, region, regionStatistics,
+                        CacheRegionStatistics::getHitCount, CacheRegionStatistics::getMissCount, CacheRegionStatistics::getPutCount);
+            }
+            bind(registry, QUERY_RESULTS_REGION, statistics,
+                    Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount, Statistics::getQueryCachePutCount);
+        };
+    }
+
+    private static <T> void bind(MeterRegistry registry, String region, T source,
+                                 ToDoubleFunction<T> hits, ToDoubleFunction<T> misses, ToDoubleFunction<T> puts) {
+        FunctionCounter.builder("hibernate.cache.hits", source, hits).tag("region", region).register(registry);
+        FunctionCounter.builder("hibernate.cache.misses", source, misses).tag("region", region).register(registry);
+        FunctionCounter.builder("hibernate.cache.puts", source, puts).tag("region", region).register(registry);
+        Gauge.builder("hibernate.cache.hit.ratio", source, s -> {
+                    double hit = hits.applyAsDouble(s);
+                    double total = hit + misses.applyAsDouble(s);
+                    return total == 0 ? Double.NaN : hit / total;
+                })
+                .tag("region", region)
+                .description("2차 캐시 조회 중 캐시에서 찾은 비율")
+                .register(registry);
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxSize, long ttlMillis) {
+        CaffeineConfiguration<Object, Object> configuration = byReference();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttlMillis)));
+        return configuration;
+    }
+
+    // Hibernate 의 캐시 항목은 불변이라 값 복사(직렬화) 없이 참조로 저장합니다.
+    private static CaffeineConfiguration<Object, Object> byReference() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시퀀스로 id 를 받는 엔티티(Todo, Manager)의 시퀀스를 기동 시 확인합니다.
+ * IDENTITY 로 쌓인 기존 DB 에는 시퀀스가 없거나, 있어도 이미 쓰인 id 를 다시 줄 수 있으므로
+ * 없으면 만들고, 다음 값이 MAX(id) + allocationSize 보다 작으면 그 값으로 올립니다. (pooled 는 받은 값 아래 allocationSize 개를 씁니다)
+ * 시퀀스가 없는 DB(MySQL)는 Hibernate 가 대신 쓰는 같은 이름의 테이블(next_val)을 같은 기준으로 맞춥니다.
+ * 시퀀스는 조건부로 올릴 수 없으므로, 기존 DB 에 처음 배포할 때는 노드 하나를 먼저 기동합니다.
+ */
+@Slf4j(topic = "SequenceInitializer")
+@Component
+@RequiredArgsConstructor
+public class SequenceInitializer {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        SequenceSupport sequenceSupport = sessionFactory.getJdbcServices().getDialect().getSequenceSupport();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && persister instanceof AbstractEntityPersister entityPersister) {
+                DatabaseStructure structure = generator.getDatabaseStructure();
+                String name = structure.getPhysicalName().render();
+                long required = maxId(entityPersister) + structure.getIncrementSize();
+                if (structure.isPhysicalSequence()) {
+                    alignSequence(sequenceSupport, name, structure.getIncrementSize(), required);
+                } else {
+                    alignTable(name, required);
+                }
+            }
+        });
+    }
+
+    private long maxId(AbstractEntityPersister persister) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + persister.getIdentifierColumnNames()[0] + ") FROM "
+                + persister.getTableName(), Long.class);
+        return max == null ? 0 : max;
+    }
+
+    // 확인하느라 한 번 받은 값은 버려지므로 allocationSize 개의 id 가 비게 됩니다.
+    private void alignSequence(SequenceSupport sequenceSupport, String sequence, int incrementSize, long required) {
+        Long next;
+        try {
+            next = jdbcTemplate.queryForObject(sequenceSupport.getSequenceNextValString(sequence), Long.class);
+        } catch (DataAccessException e) {
+            for (String sql : sequenceSupport.getCreateSequenceStrings(sequence, 1, incrementSize)) {
+                jdbcTemplate.execute(sql);
+            }
+            log.info("시퀀스 {} 가 없어 만들었습니다.", sequence);
+            next = null;
+        }
+        if (next == null || next < required) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + required);
+            log.info("시퀀스 {} 의 다음 값을 {} 로 올렸습니다.", sequence, required);
+        }
+    }
+
+    // 조건부 UPDATE 라 여러 노드가 동시에 기동해도 값이 뒤로 가지 않습니다.
+    private void alignTable(String table, long required) {
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        } catch (DataAccessException e) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (next_val bigint)");
+            log.info("시퀀스 테이블 {} 이 없어 만들었습니다.", table);
+        }
+        if (jdbcTemplate.update("UPDATE " + table + " SET next_val = ? WHERE next_val < ?", required, required) > 0) {
+            log.info("시퀀스 테이블 {} 의 다음 값을 {} 로 올렸습니다.", table, required);
+        }
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        if (rows == null || rows == 0) {
+            jdbcTemplate.update("INSERT INTO " + table + " (next_val) VALUES (?)", required);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 만료 전에 폐기(logout)된 토큰 id(jti) 목록.
+ * 토큰의 exp 가 속한 시간 구간별로 나눠 보관하고, 구간 안의 토큰이 모두 만료되면 구간을 통째로 버리므로
+ * 메모리는 토큰 유효 시간 동안 폐기된 토큰 수만큼만 사용합니다. 조회는 배열 접근과 해시 조회 한 번으로 끝나며 락이 없습니다.
+ */
+@Component
+public class TokenDenylist implements MeterBinder {
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public TokenDenylist(@Value("${jwt.denylist.bucket-ms:60000}") long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        // 발급 직후 토큰의 exp 구간까지 덮을 수 있도록 토큰 유효 시간보다 두 칸 크게 잡습니다.
+        this.buckets = new AtomicReferenceArray<>((int) (JwtUtil.TOKEN_TIME / bucketMillis) + 2);
+    }
+
+    public void revoke(String tokenId, long expiration) {
+        long now = System.currentTimeMillis();
+        if (expiration <= now) {
+            return;
+        }
+        if (expiration - now > JwtUtil.TOKEN_TIME + bucketMillis) {
+            throw new IllegalArgumentException("토큰 유효 시간보다 늦게 만료되는 토큰은 폐기할 수 없습니다.");
+        }
+
+        long epoch = expiration / bucketMillis;
+        int index = index(epoch);
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.epoch != epoch) {
+            // 같은 칸에 남아 있는 구간은 이미 모두 만료된 구간입니다.
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+                break;
+            }
+            bucket = buckets.get(index);
+        }
+        bucket.tokenIds.add(tokenId);
+    }
+
+    public boolean isRevoked(String tokenId, long expiration) {
+        if (tokenId == null) {
+            return false;
+        }
+        long epoch = expiration / bucketMillis;
+        Bucket bucket = buckets.get(index(epoch));
+        return bucket != null && bucket.epoch == epoch && bucket.tokenIds.contains(tokenId);
+    }
+
+    // 모든 토큰이 만료된 구간을 버립니다.
+    @Scheduled(fixedDelayString = "${jwt.denylist.bucket-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && (bucket.epoch + 1) * bucketMillis <= now) {
+                buckets.compareAndSet(i, bucket, null);
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null) {
+                size += bucket.tokenIds.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.denylist.size", this, TokenDenylist::size)
+                .register(registry);
+    }
+
+    private int index(long epoch) {
+        return (int) (epoch % buckets.length());
+    }
+
+    private static final class Bucket {
+
+        private final long epoch;
+        private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 모드에서 synchronized 블록이나 네이티브 호출 안에서 블로킹되어
+ * 캐리어 스레드에 고정(pinned)된 경우를 JFR 이벤트(jdk.VirtualThreadPinned)로 감지합니다.
+ * 같은 호출 위치는 처음 한 번만 스택과 함께 로그로 남기고, 이후에는 횟수만 셉니다.
+ */
+@Slf4j(topic = "VirtualThreadPinning")
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements MeterBinder {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 20;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedBySite = new ConcurrentHashMap<>();
+    private final LongAdder pinned = new LongAdder();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public Map<String, LongAdder> pinnedBySite() {
+        return pinnedBySite;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jvm.threads.virtual.pinned", pinned, LongAdder::sum)
+                .description("캐리어 스레드에 고정된 가상 스레드 수")
+                .register(registry);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+
+        String stackTrace = format(event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames());
+        LongAdder count = pinnedBySite.computeIfAbsent(stackTrace, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            log.warn("가상 스레드가 {}ms 동안 캐리어 스레드에 고정되었습니다.\n{}",
+                    event.getDuration().toMillis(), stackTrace);
+        }
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), MAX_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+}
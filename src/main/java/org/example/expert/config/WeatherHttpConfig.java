@@ -0,0 +1,77 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 날씨 API 호출용 HTTP 커넥션 풀.
+ * 연결을 keep-alive 로 재사용하고, 풀 대기, 연결, 응답 대기 시간을 각각 제한하며
+ * 호출 전체에도 시간 제한(weather.http.call-timeout-ms)을 걸어 느린 외부 서버가 요청 스레드를 붙잡지 않도록 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "weather.provider", havingValue = "http", matchIfMissing = true)
+public class WeatherHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager weatherConnectionManager(
+            @Value("${weather.http.max-connections:20}") int maxConnections,
+            @Value("${weather.http.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${weather.http.read-timeout-ms:2000}") long readTimeoutMillis
+    ) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient weatherHttpClient(
+            PoolingHttpClientConnectionManager weatherConnectionManager,
+            @Value("${weather.http.pool-timeout-ms:500}") long poolTimeoutMillis,
+            @Value("${weather.http.read-timeout-ms:2000}") long readTimeoutMillis
+    ) {
+        return HttpClients.custom()
+                .setConnectionManager(weatherConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .evictExpiredConnections()
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean(destroyMethod = "destroy")
+    public DeadlineHttpRequestFactory weatherRequestFactory(
+            CloseableHttpClient weatherHttpClient,
+            @Value("${weather.http.call-timeout-ms:3000}") long callTimeoutMillis
+    ) {
+        return new DeadlineHttpRequestFactory(weatherHttpClient, Duration.ofMillis(callTimeoutMillis));
+    }
+
+    // httpcomponents.httpclient.pool.total.{max,connections}, ...route.max.default 등
+    @Bean
+    public MeterBinder weatherConnectionPoolMetrics(PoolingHttpClientConnectionManager weatherConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(weatherConnectionManager, "weather");
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JwtClaims;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenDenylist;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -12,7 +14,9 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -23,12 +27,18 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TokenDenylist tokenDenylist;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // Bloom filter 가 없다고 하면 DB 조회를 생략합니다. 동시에 가입한 경우는 unique 제약으로 막습니다.
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            emailBloomFilter.recordFalsePositive();
         }
 
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
@@ -41,24 +51,48 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        emailBloomFilter.put(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
         return new SignupResponse(bearerToken);
     }
 
+    @Transactional
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+        // Bloom filter 는 다른 노드에서 가입한 유저를 아직 모를 수 있으므로 로그인은 항상 DB 로 확인합니다.
+        User user = userRepository.findByEmail(signinRequest.getEmail())
+                .orElseThrow(() -> new InvalidRequestException("가입되지 않은 유저입니다."));
+        emailBloomFilter.put(user.getEmail());
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 현재 bcrypt 비용과 다른 비용으로 저장된 해시는 로그인에 성공했을 때 다시 해시합니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            user.changePassword(passwordEncoder.encode(signinRequest.getPassword()));
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
     }
+
+    // 토큰을 만료 시각까지 사용할 수 없도록 폐기합니다. DB 는 사용하지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String bearerToken) {
+        JwtClaims claims = jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken));
+        if (claims.getTokenId() == null) {
+            throw new InvalidRequestException("폐기할 수 없는 토큰입니다.");
+        }
+        tokenDenylist.revoke(claims.getTokenId(), claims.getExpiration());
+    }
 }
@@ -0,0 +1,224 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.repository.UserRepository.UserEmail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가입된 이메일의 Bloom filter.
+ * 기동 시 users 테이블 전체로 만들고, 이후에는 가입 시 바로 추가하며 다른 노드에서 가입한 유저는
+ * 주기적으로 마지막으로 읽은 id 이후의 행만 읽어 반영합니다. 준비되기 전에는 항상 true 를 반환합니다.
+ * 다른 노드의 가입이 반영되기 전이나, id 가 커밋 순서와 달라 증분 동기화에서 빠진 유저는 false 가 나올 수 있으므로
+ * mightContain 이 false 라고 DB 조회를 생략하는 곳은 unique 제약이 뒤를 받치는 회원가입뿐이어야 합니다.
+ * 빠진 유저는 auth.email-filter.rebuild-interval-ms 마다 전체를 다시 읽어 채웁니다.
+ */
+@Slf4j(topic = "EmailBloomFilter")
+@Component
+public class EmailBloomFilter implements MeterBinder {
+
+    private static final int SYNC_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final long rebuildIntervalMillis;
+
+    // DB 를 읽는 동안 잡고 있으므로 가상 스레드를 캐리어에 고정시키는 synchronized 대신 사용합니다.
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Bits bits;
+    private long lastSyncedUserId;
+    private long lastRebuiltAt;
+
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public EmailBloomFilter(
+            UserRepository userRepository,
+            @Value("${auth.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${auth.email-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${auth.email-filter.rebuild-interval-ms:600000}") long rebuildIntervalMillis
+    ) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+    }
+
+    public boolean mightContain(String email) {
+        Bits current = bits;
+        if (current == null || email == null || current.mightContain(hash(email))) {
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    public void put(String email) {
+        Bits current = bits;
+        if (current != null && email != null) {
+            current.put(hash(email));
+        }
+    }
+
+    // mightContain 이 true 였지만 DB 에 없던 경우
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        loadLock.lock();
+        try {
+            long capacity = Math.max(expectedInsertions, userRepository.count() * 2);
+            Bits fresh = new Bits(capacity, falsePositiveProbability);
+            long lastId = load(fresh, 0);
+
+            bits = fresh;
+            lastSyncedUserId = lastId;
+            lastRebuiltAt = System.currentTimeMillis();
+            log.info("이메일 Bloom filter 를 만들었습니다. (유저 {}명, {} bits, 해시 {}개, 예상 오탐률 {})",
+                    fresh.inserted.sum(), fresh.bitSize, fresh.hashCount, fresh.expectedFalsePositiveProbability());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.email-filter.sync-interval-ms:5000}")
+    public void sync() {
+        loadLock.lock();
+        try {
+            Bits current = bits;
+            if (current == null) {
+                return;
+            }
+            // 용량을 넘었거나, 늦게 커밋되어 증분 동기화에서 빠진 행이 있을 수 있을 만큼 시간이 지났으면 다시 만듭니다.
+            if (current.inserted.sum() > current.capacity
+                    || System.currentTimeMillis() - lastRebuiltAt >= rebuildIntervalMillis) {
+                rebuild();
+                return;
+            }
+            lastSyncedUserId = load(current, lastSyncedUserId);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    public double expectedFalsePositiveProbability() {
+        Bits current = bits;
+        return current == null ? 1.0 : current.expectedFalsePositiveProbability();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.email.filter.skipped", skipped, LongAdder::sum)
+                .description("DB 조회를 생략한 횟수")
+                .register(registry);
+        FunctionCounter.builder("auth.email.filter.false.positives", falsePositives, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("auth.email.filter.expected.fpp", this, EmailBloomFilter::expectedFalsePositiveProbability)
+                .register(registry);
+    }
+
+    private long load(Bits target, long afterId) {
+        long lastId = afterId;
+        long maxId = lastSyncedUserId;
+        List<UserEmail> batch;
+        do {
+            batch = userRepository.findEmailsAfter(lastId, PageRequest.of(0, SYNC_BATCH_SIZE));
+            for (UserEmail userEmail : batch) {
+                target.put(hash(userEmail.getEmail()));
+                lastId = userEmail.getId();
+            }
+        } while (batch.size() == SYNC_BATCH_SIZE);
+        return Math.max(lastId, maxId);
+    }
+
+    // 대소문자를 구분하지 않는 64비트 해시 (FNV-1a + murmur3 finalizer)
+    private static long hash(String email) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < email.length(); i++) {
+            h ^= Character.toLowerCase(email.charAt(i));
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Bits {
+
+        private final long capacity;
+        private final long bitSize;
+        private final int hashCount;
+        private final AtomicLongArray words;
+        private final LongAdder setBits = new LongAdder();
+        private final LongAdder inserted = new LongAdder();
+
+        private Bits(long capacity, double falsePositiveProbability) {
+            long size = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+            this.capacity = capacity;
+            this.bitSize = Math.max(64, (size + 63) / 64 * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * Math.log(2)));
+            this.words = new AtomicLongArray((int) (bitSize / 64));
+        }
+
+        private boolean mightContain(long hash) {
+            long step = (hash >>> 32) | 1;
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((hash + i * step) & Long.MAX_VALUE) % bitSize;
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 새로 켠 비트가 있을 때만 원소 수를 늘리므로 같은 이메일을 다시 넣어도 세지 않습니다.
+        private void put(long hash) {
+            boolean changed = false;
+            long step = (hash >>> 32) | 1;
+            for (int i = 1; i <= hashCount; i++) {
+                long index = ((hash + i * step) & Long.MAX_VALUE) % bitSize;
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = words.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, current, current | mask));
+                if ((current & mask) == 0) {
+                    setBits.increment();
+                    changed = true;
+                }
+            }
+            if (changed) {
+                inserted.increment();
+            }
+        }
+
+        // 채워진 비트 비율^k
+        private double expectedFalsePositiveProbability() {
+            return Math.pow((double) setBits.sum() / bitSize, hashCount);
+        }
+    }
+}
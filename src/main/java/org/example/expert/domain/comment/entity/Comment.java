@@ -10,7 +10,8 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+// 일정별 댓글 조회(todo_id =)를 인덱스 순서(id)대로 읽습니다.
+@Table(name = "comments", indexes = @Index(name = "idx_comments_todo_id_id", columnList = "todo_id, id"))
 public class Comment extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
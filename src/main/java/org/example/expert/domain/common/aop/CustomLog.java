@@ -3,6 +3,8 @@ package org.example.expert.domain.common.aop;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.AuthUserContext;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -31,7 +33,8 @@ public class CustomLog {
         }
 
         HttpServletRequest request = attributes.getRequest();
-        Long requestUserId = (Long) request.getAttribute("userId");
+        AuthUser authUser = AuthUserContext.from(request);
+        Long requestUserId = authUser == null ? null : authUser.getId();
         String requestedURI = request.getRequestURI();
         String requestApiTime = LocalDateTime.now().toString();
 
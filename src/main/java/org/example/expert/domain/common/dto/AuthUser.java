@@ -4,7 +4,7 @@ import lombok.Getter;
 import org.example.expert.domain.user.enums.UserRole;
 
 @Getter
-public class AuthUser {
+public final class AuthUser {
 
     private final Long id;
     private final String email;
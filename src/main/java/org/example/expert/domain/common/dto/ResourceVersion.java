@@ -0,0 +1,37 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(If-None-Match, If-Modified-Since) 판단에 쓰는 응답의 버전 정보.
+ * 본문을 만들기 전에 버전 컬럼과 modifiedAt 만으로 약한(weak) ETag 와 Last-Modified 를 계산합니다.
+ */
+@Getter
+public final class ResourceVersion {
+
+    private final String eTag;
+    // 알 수 없으면 -1 (Last-Modified 를 보내지 않습니다)
+    private final long lastModified;
+
+    private ResourceVersion(String tag, LocalDateTime modifiedAt) {
+        this.lastModified = modifiedAt == null ? -1 : modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        this.eTag = "W/\"" + tag + "-" + lastModified + "\"";
+    }
+
+    public static ResourceVersion of(long version, LocalDateTime modifiedAt) {
+        return new ResourceVersion(String.valueOf(version), modifiedAt);
+    }
+
+    // 수정 시각 없이 버전만으로 판단합니다.
+    public static ResourceVersion of(long version) {
+        return new ResourceVersion(String.valueOf(version), null);
+    }
+
+    // 버전 컬럼이 없는 엔티티는 수정 시각만으로 판단합니다.
+    public static ResourceVersion of(LocalDateTime modifiedAt) {
+        return new ResourceVersion("t", modifiedAt);
+    }
+}
@@ -9,10 +9,14 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+// 일정별 담당자 조회(todo_id =), user_id 까지 포함해 일정-유저 쌍도 인덱스만으로 찾습니다.
+@Table(name = "managers", indexes = @Index(name = "idx_managers_todo_id_user_id", columnList = "todo_id, user_id"))
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 일정과 함께 배치로 저장되도록 일정과 같은 방식의 시퀀스를 씁니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "managers_seq")
+    @SequenceGenerator(name = "managers_seq", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
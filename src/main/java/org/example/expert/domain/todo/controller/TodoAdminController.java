@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoAdminService todoAdminService;
+
+    // DELETE /admin/todos?ids=1,2,3
+    @DeleteMapping("/admin/todos")
+    public ResponseEntity<TodoDeleteResponse> deleteTodos(@RequestParam("ids") List<Long> todoIds) {
+        return ResponseEntity.ok(todoAdminService.deleteTodos(todoIds));
+    }
+}
@@ -2,15 +2,24 @@ package org.example.expert.domain.todo.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JsonBytes;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCountResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,16 +35,70 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBatchSaveRequest));
+    }
+
+    // 조건부 GET: 본문을 만들기 전에 버전만 읽어 If-None-Match, If-Modified-Since 와 같으면 304 로 응답합니다.
+    // 버전을 본문보다 먼저 읽으므로, 그 사이 변경이 있어도 다음 요청의 ETag 가 달라져 새 본문을 받습니다.
+    // 목록은 수정 시각이 아닌 목록 버전으로 판단하므로 Last-Modified 없이 ETag 로만 판단합니다.
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(name ="page", defaultValue = "1") int page,
-            @RequestParam(name = "size",defaultValue = "10") int size
+            @RequestParam(name = "size",defaultValue = "10") int size,
+            WebRequest request
     ) {
+        ResourceVersion version = todoService.getTodoListVersion();
+        if (request.checkNotModified(version.getETag())) {
+            return null;
+        }
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // slice=true 면 전체 개수 없이 hasNext 만 담아 응답합니다. 전체 개수는 GET /todos/count 의 근사값을 사용합니다.
+    @GetMapping(value = "/todos", params = {"slice=true", "!cursor"})
+    public ResponseEntity<Slice<TodoResponse>> getTodoSlice(
+            @RequestParam(name = "page", defaultValue = "1") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size));
+    }
+
+    @GetMapping("/todos/count")
+    public ResponseEntity<TodoCountResponse> getTodoCount() {
+        return ResponseEntity.ok(todoService.getTodoCount());
+    }
+
+    // cursor 파라미터가 있으면(첫 페이지는 빈 값) 커서 페이지네이션으로 응답합니다.
+    @GetMapping(value = "/todos", params = {"cursor", "slice!=true"})
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    // slice 와 cursor 를 함께 보내면 어느 방식인지 정할 수 없으므로 400 으로 응답합니다.
+    @GetMapping(value = "/todos", params = {"slice=true", "cursor"})
+    public ResponseEntity<Void> getTodosBySliceAndCursor() {
+        throw new InvalidRequestException("slice 와 cursor 는 함께 사용할 수 없습니다.");
+    }
+
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable("todoId") long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<JsonBytes> getTodo(@PathVariable("todoId") long todoId, WebRequest request) {
+        ResourceVersion version = todoService.getTodoVersion(todoId);
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(todoService.getTodoJson(todoId));
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable("todoId") long todoId) {
+        todoService.deleteTodo(authUser, todoId);
     }
 }
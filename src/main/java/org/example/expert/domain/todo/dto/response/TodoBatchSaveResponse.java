@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    // 요청 순서대로 저장된 일정 id
+    private final List<Long> ids;
+
+    public TodoBatchSaveResponse(List<Long> ids) {
+        this.ids = ids;
+    }
+}
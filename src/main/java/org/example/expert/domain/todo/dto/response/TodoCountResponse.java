@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoCountResponse {
+
+    // countedAt 시점의 전체 일정 수 (근사값)
+    private final long count;
+    private final LocalDateTime countedAt;
+
+    public TodoCountResponse(long count, LocalDateTime countedAt) {
+        this.count = count;
+        this.countedAt = countedAt;
+    }
+}
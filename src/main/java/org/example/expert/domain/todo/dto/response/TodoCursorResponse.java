@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse {
+
+    private final List<TodoResponse> content;
+    // 다음 페이지가 없으면 null
+    private final String nextCursor;
+
+    public TodoCursorResponse(List<TodoResponse> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+}
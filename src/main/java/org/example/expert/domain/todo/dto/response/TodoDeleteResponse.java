@@ -0,0 +1,14 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoDeleteResponse {
+
+    // 실제로 삭제된 일정 수 (없는 id 는 세지 않습니다)
+    private final int deletedCount;
+
+    public TodoDeleteResponse(int deletedCount) {
+        this.deletedCount = deletedCount;
+    }
+}
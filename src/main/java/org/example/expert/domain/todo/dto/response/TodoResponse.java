@@ -1,5 +1,6 @@
 package org.example.expert.domain.todo.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
@@ -15,8 +16,15 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    // ETag 를 만들 때만 쓰고 응답 본문에는 넣지 않습니다.
+    @JsonIgnore
+    private final long version;
 
     public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, 0L);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, long version) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +32,11 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
+    }
+
+    // JPQL 생성자 표현식(SELECT new ...)은 중첩 객체를 만들 수 없어 작성자 컬럼을 펼쳐서 받습니다.
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt, version == null ? 0L : version);
     }
 }
@@ -3,6 +3,9 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -14,15 +17,31 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+// 목록, 커서 조회의 ORDER BY modified_at DESC, id DESC 를 정렬 없이 인덱스 순서로 읽고,
+// 날씨 backfill 의 weather IS NULL 일정 조회는 테이블 전체를 훑지 않고 인덱스 구간으로 찾습니다.
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC"),
+        @Index(name = "idx_todos_weather_created_at", columnList = "weather, created_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo")
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해 JDBC 배치가 꺼지므로, 50개씩 미리 할당받는 시퀀스를 씁니다.
+    // (시퀀스가 없는 MySQL 에서는 Hibernate 가 todos_seq 테이블로 대신합니다. 기존 DB 는 SequenceInitializer 가 기동 시 맞춥니다.)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 수정될 때마다 1씩 올라가며 ETag 에 쓰입니다. 벌크 UPDATE 는 직접 올려야 합니다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
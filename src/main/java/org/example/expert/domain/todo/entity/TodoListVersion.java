@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정 목록의 버전. 일정을 추가, 삭제하거나 벌크 UPDATE 로 바꿀 때마다 같은 트랜잭션에서 1씩 올려 목록 ETag 로 씁니다.
+ * 행은 하나(id = 1)뿐이며 TodoListVersionInitializer 가 기동 시 만듭니다.
+ * 모든 일정 쓰기가 이 행을 갱신하므로, 동시에 커밋하는 쓰기끼리는 이 행의 잠금을 잠깐씩 기다립니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_list_version")
+public class TodoListVersion {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+    @Column(nullable = false)
+    private long version;
+
+    public TodoListVersion(Long id) {
+        this.id = id;
+    }
+}
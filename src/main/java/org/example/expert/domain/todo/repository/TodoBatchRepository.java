@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.Todo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일정을 쓰는 메서드. 모두 같은 트랜잭션에서 TodoListVersion 을 올려 목록 ETag 가 바뀌게 합니다.
+ */
+public interface TodoBatchRepository {
+
+    /**
+     * 일정과 일정 작성자 담당자 행을 INSERT 합니다.
+     */
+    Todo insert(Todo todo);
+
+    /**
+     * 일정과 일정 작성자 담당자 행을 한 트랜잭션 안에서 batchSize 개씩 JDBC 배치로 INSERT 합니다.
+     * 저장이 끝나면 todos 의 id 가 채워지며, 엔티티는 영속성 컨텍스트에서 분리된 상태가 됩니다.
+     */
+    void insertAll(List<Todo> todos, int batchSize);
+
+    /**
+     * 일정과 그 댓글, 담당자를 자식부터 한 트랜잭션 안에서 집합 단위 DELETE 세 번으로 지웁니다. 자식 행은 메모리에 올리지 않습니다.
+     * 엔티티 이벤트가 없으므로 TodoResponseCache 는 호출하는 쪽에서 커밋 후 무효화해야 합니다. (2차 캐시는 Hibernate 가 비웁니다)
+     * @return 삭제된 일정 수
+     */
+    int deleteAllInBulk(Collection<Long> todoIds);
+
+    /**
+     * createdAt 이 [from, to) 이고 날씨가 없는 일정의 날씨를 채우고 버전과 modifiedAt 을 올립니다.
+     * 응답 본문이 바뀌므로 modifiedAt 도 올려 If-Modified-Since 만 보내는 요청도 새 응답을 받게 합니다.
+     * @return 날씨를 채운 일정 수
+     */
+    int fillWeather(String weather, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,93 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoListVersion;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class TodoBatchRepositoryImpl implements TodoBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Todo insert(Todo todo) {
+        entityManager.persist(todo);
+        touchListVersion();
+        return todo;
+    }
+
+    // batchSize 개마다 flush 로 배치를 보내고 clear 로 영속성 컨텍스트를 비워, 건수가 많아도 메모리와 dirty checking 비용이 늘지 않게 합니다.
+    @Override
+    @Transactional
+    public void insertAll(List<Todo> todos, int batchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            for (int i = 0; i < todos.size(); i++) {
+                entityManager.persist(todos.get(i));
+                if ((i + 1) % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            touchListVersion();
+            entityManager.flush();
+            entityManager.clear();
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllInBulk(Collection<Long> todoIds) {
+        entityManager.createQuery("DELETE FROM Comment c WHERE c.todo.id IN :todoIds")
+                .setParameter("todoIds", todoIds)
+                .executeUpdate();
+        entityManager.createQuery("DELETE FROM Manager m WHERE m.todo.id IN :todoIds")
+                .setParameter("todoIds", todoIds)
+                .executeUpdate();
+        int deleted = entityManager.createQuery("DELETE FROM Todo t WHERE t.id IN :todoIds")
+                .setParameter("todoIds", todoIds)
+                .executeUpdate();
+        if (deleted > 0) {
+            touchListVersion();
+        }
+        return deleted;
+    }
+
+    // modifiedAt 은 JPA auditing 과 같은 JVM 시계로 채웁니다.
+    @Override
+    @Transactional
+    public int fillWeather(String weather, LocalDateTime from, LocalDateTime to) {
+        int updated = entityManager.createQuery("UPDATE Todo t " +
+                        "SET t.weather = :weather, t.version = t.version + 1, t.modifiedAt = :modifiedAt " +
+                        "WHERE t.weather IS NULL AND t.createdAt >= :from AND t.createdAt < :to")
+                .setParameter("weather", weather)
+                .setParameter("modifiedAt", LocalDateTime.now())
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .executeUpdate();
+        if (updated > 0) {
+            touchListVersion();
+        }
+        return updated;
+    }
+
+    // 트랜잭션의 마지막 쓰기로 두어 버전 행의 잠금을 커밋 직전까지만 잡습니다.
+    // 행이 아직 없으면(기동 전) 아무것도 바꾸지 않습니다.
+    private void touchListVersion() {
+        entityManager.createQuery("UPDATE TodoListVersion v SET v.version = v.version + 1 WHERE v.id = :id")
+                .setParameter("id", TodoListVersion.ID)
+                .executeUpdate();
+    }
+}
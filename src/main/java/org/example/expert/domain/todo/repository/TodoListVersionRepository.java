@@ -0,0 +1,14 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.TodoListVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface TodoListVersionRepository extends JpaRepository<TodoListVersion, Long> {
+
+    // 버전은 TodoBatchRepository 의 쓰기 메서드가 같은 트랜잭션에서 올립니다.
+    @Query("SELECT v.version FROM TodoListVersion v WHERE v.id = " + TodoListVersion.ID)
+    Optional<Long> findCurrent();
+}
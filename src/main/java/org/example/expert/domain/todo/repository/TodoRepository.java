@@ -1,23 +1,50 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoBatchRepository {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회 전용 응답은 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 골라 TodoResponse 로 바로 만듭니다.
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.version) " +
+            "FROM Todo t LEFT JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query(value = TODO_RESPONSE + "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    // Slice 반환이라 count 쿼리 없이 size + 1 행을 읽어 다음 페이지 여부만 판단합니다.
+    // modifiedAt 이 같은 일정이 페이지 경계에서 겹치거나 빠지지 않도록 id 로 순서를 고정합니다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findSliceByOrderByModifiedAtDesc(Pageable pageable);
+
+    // 커서 페이지네이션: (modifiedAt, id) 내림차순으로 커서 다음 행부터 pageable 의 크기만큼 읽습니다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstByCursor(Pageable pageable);
+
+    // 선두 컬럼 범위 조건(modifiedAt <=)을 따로 두어 (modified_at, id) 인덱스 범위 스캔으로 시작 위치를 찾도록 합니다.
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt <= :modifiedAt AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findAfterCursor(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") long id, Pageable pageable);
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findResponseById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // idx_todos_weather_created_at 의 weather IS NULL 구간 첫 항목만 읽으므로 채울 일정이 없으면 바로 끝납니다.
+    @Query("SELECT MIN(t.createdAt) FROM Todo t WHERE t.weather IS NULL AND t.createdAt >= :from")
+    LocalDateTime findOldestCreatedAtWithoutWeather(@Param("from") LocalDateTime from);
 }
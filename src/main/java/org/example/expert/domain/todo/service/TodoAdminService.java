@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    // IN 절 파라미터 수 제한
+    private static final int MAX_DELETE_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoCountCache todoCountCache;
+
+    // 삭제는 repository 의 트랜잭션에서 커밋되므로 그 뒤에 캐시를 지웁니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoDeleteResponse deleteTodos(List<Long> todoIds) {
+        if (todoIds.isEmpty() || todoIds.size() > MAX_DELETE_SIZE) {
+            throw new InvalidRequestException("한 번에 삭제할 수 있는 일정은 1개 이상 " + MAX_DELETE_SIZE + "개 이하입니다.");
+        }
+
+        List<Long> distinctIds = todoIds.stream().distinct().toList();
+        int deleted = todoRepository.deleteAllInBulk(distinctIds);
+        distinctIds.forEach(todoResponseCache::invalidate);
+        todoCountCache.add(-deleted);
+
+        return new TodoDeleteResponse(deleted);
+    }
+}
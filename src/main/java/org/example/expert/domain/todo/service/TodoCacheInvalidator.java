@@ -0,0 +1,100 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정, 댓글, 담당자 엔티티가 저장, 수정, 삭제되어 커밋되면 해당 일정의 TodoResponseCache 항목을 지웁니다.
+ * 커밋 이후에 지우므로 커밋 전 데이터를 읽던 조회의 결과도 캐시에 남지 않습니다.
+ * 일정이 추가, 삭제되면 GET /todos/count 가 쓰는 TodoCountCache 의 개수도 함께 고칩니다.
+ * JPQL 벌크 UPDATE/DELETE 는 엔티티 이벤트가 없으므로 호출하는 쪽에서 직접 무효화해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoCacheInvalidator
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoCountCache todoCountCache;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Todo) {
+            todoCountCache.add(1);
+        }
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Todo) {
+            todoCountCache.add(-1);
+        }
+        invalidate(event.getEntity());
+    }
+
+    // 롤백된 변경은 캐시에 영향이 없으므로 무시합니다.
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entityClass = persister.getMappedClass();
+        return entityClass == Todo.class || entityClass == Comment.class || entityClass == Manager.class;
+    }
+
+    // 연관된 Todo 가 지연 로딩 프록시여도 getId() 는 DB 를 조회하지 않습니다.
+    private void invalidate(Object entity) {
+        Todo todo = null;
+        if (entity instanceof Todo changed) {
+            todo = changed;
+        } else if (entity instanceof Comment comment) {
+            todo = comment.getTodo();
+        } else if (entity instanceof Manager manager) {
+            todo = manager.getTodo();
+        }
+        if (todo != null && todo.getId() != null) {
+            todoResponseCache.invalidate(todo.getId());
+        }
+    }
+}
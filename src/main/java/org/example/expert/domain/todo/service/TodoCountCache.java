@@ -0,0 +1,90 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoCountResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전체 일정 수를 주기적으로 한 번 세어 두고 그 값을 돌려줍니다.
+ * 이 노드에서 커밋된 추가, 삭제는 add 로 바로 반영하므로, 목록 요청마다 COUNT 쿼리를 실행하지 않는 대신
+ * 다른 노드에서 추가, 삭제된 일정만큼만 다음 집계 전까지 실제와 다를 수 있습니다.
+ * 집계는 가상 스레드를 캐리어에 고정시키지 않도록 synchronized 대신 ReentrantLock 으로 한 번에 하나만 실행하며,
+ * 아직 센 값이 없을 때 동시에 들어온 요청은 먼저 들어온 요청의 집계를 기다렸다가 그 값을 함께 씁니다.
+ */
+@Slf4j(topic = "TodoCountCache")
+@Component
+@RequiredArgsConstructor
+public class TodoCountCache implements MeterBinder {
+
+    private final TodoRepository todoRepository;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // add 로 반영한 변경의 누적 합. 집계 중에 들어온 변경도 잃지 않도록 초기화하지 않고 계속 더합니다.
+    private final AtomicLong appliedDelta = new AtomicLong();
+
+    // 집계 값에서 집계 시작 시점의 appliedDelta 를 뺀 기준값. 아직 한 번도 세지 않았으면 null
+    private volatile TodoCountResponse base;
+
+    public TodoCountResponse get() {
+        TodoCountResponse current = base;
+        if (current == null) {
+            refreshLock.lock();
+            try {
+                current = base;
+                if (current == null) {
+                    return refresh();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return withDelta(current);
+    }
+
+    public void add(long delta) {
+        appliedDelta.addAndGet(delta);
+    }
+
+    // 집계를 시작하기 전의 누적 변경은 COUNT 결과에 이미 들어 있으므로 빼 두고, 집계 중과 이후의 변경만 더해 돌려줍니다.
+    @Scheduled(
+            initialDelayString = "${todo.count.refresh-initial-delay-ms:0}",
+            fixedDelayString = "${todo.count.refresh-interval-ms:60000}"
+    )
+    public TodoCountResponse refresh() {
+        refreshLock.lock();
+        try {
+            long deltaAtStart = appliedDelta.get();
+            long counted = todoRepository.count();
+            base = new TodoCountResponse(counted - deltaAtStart, LocalDateTime.now());
+            log.debug("전체 일정 수를 {}건으로 갱신했습니다.", counted);
+            return withDelta(base);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private TodoCountResponse withDelta(TodoCountResponse current) {
+        return new TodoCountResponse(current.getCount() + appliedDelta.get(), current.getCountedAt());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.count.approximate", this, cache -> {
+                    TodoCountResponse current = cache.base;
+                    return current != null ? cache.withDelta(current).getCount() : Double.NaN;
+                })
+                .description("마지막으로 집계한 전체 일정 수")
+                .register(registry);
+    }
+}
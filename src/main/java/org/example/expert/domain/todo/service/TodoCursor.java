@@ -0,0 +1,37 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 일정 목록 커서. 마지막으로 내려준 일정의 (modifiedAt, id) 를 Base64URL 로 감싸 클라이언트에는 불투명한 문자열로 전달합니다.
+ */
+record TodoCursor(LocalDateTime modifiedAt, long id) {
+
+    private static final char SEPARATOR = '_';
+
+    // 비어 있으면 첫 페이지를 뜻하므로 null 을 반환합니다.
+    static TodoCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new TodoCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    String encode() {
+        String value = modifiedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
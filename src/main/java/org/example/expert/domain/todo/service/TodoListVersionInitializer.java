@@ -0,0 +1,34 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.entity.TodoListVersion;
+import org.example.expert.domain.todo.repository.TodoListVersionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 버전 행이 없으면 기동 시 만듭니다. 스케줄 작업이 일정을 쓰기 전에 끝나도록 빈 초기화 때 실행합니다.
+ * 여러 노드가 동시에 기동해 다른 노드가 먼저 만들었으면 그대로 둡니다.
+ */
+@Slf4j(topic = "TodoListVersionInitializer")
+@Component
+@RequiredArgsConstructor
+public class TodoListVersionInitializer {
+
+    private final TodoListVersionRepository todoListVersionRepository;
+
+    @PostConstruct
+    void initialize() {
+        if (todoListVersionRepository.existsById(TodoListVersion.ID)) {
+            return;
+        }
+        try {
+            todoListVersionRepository.saveAndFlush(new TodoListVersion(TodoListVersion.ID));
+            log.info("일정 목록 버전 행을 만들었습니다.");
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 노드가 일정 목록 버전 행을 먼저 만들었습니다.");
+        }
+    }
+}
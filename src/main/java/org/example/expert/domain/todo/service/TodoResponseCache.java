@@ -0,0 +1,129 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * GET /todos/{todoId} 응답을 일정 id 기준으로 보관하는 캐시.
+ * 항목 크기(문자열 길이 기준 추정치)의 합이 todo.cache.maximum-weight 를 넘으면 오래 안 쓴 항목부터 내보내고,
+ * todo.cache.ttl-ms 가 지나면 만료됩니다. 같은 id 를 동시에 못 찾은 요청들은 하나의 DB 조회 결과를 함께 기다립니다.
+ * 일정마다 무효화될 때 바뀌는 버전도 함께 관리해, 직렬화된 응답처럼 일정에서 파생된 캐시의 키로 쓰게 합니다.
+ */
+@Component
+public class TodoResponseCache implements MeterBinder {
+
+    // 객체 헤더, 필드, LocalDateTime 두 개 등 문자열을 뺀 대략적인 크기
+    private static final int BASE_WEIGHT = 256;
+
+    private final AsyncCache<Long, TodoResponse> cache;
+    // 일정 id 별 현재 버전. 항목이 없으면 한 번도 쓰지 않은 새 번호를 매기므로 내보내져도 예전 버전을 다시 쓰지 않습니다.
+    private final Cache<Long, Long> versions;
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    @Autowired
+    public TodoResponseCache(
+            @Value("${todo.cache.maximum-weight:16777216}") long maximumWeight,
+            @Value("${todo.cache.ttl-ms:60000}") long ttlMillis
+    ) {
+        this(maximumWeight, Duration.ofMillis(ttlMillis), Ticker.systemTicker());
+    }
+
+    TodoResponseCache(long maximumWeight, Duration ttl, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long id, TodoResponse response) -> weigh(response))
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+        // 응답 캐시가 담을 수 있는 최대 항목 수만큼 버전을 기억합니다.
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maximumWeight / BASE_WEIGHT))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader 로 읽어 캐시에 넣습니다.
+     * 조회 중에 invalidate 된 id 의 결과는 캐시에 남지 않으며, loader 가 던진 예외는 그대로 전파되고 캐시되지 않습니다.
+     */
+    public TodoResponse get(long todoId, Function<Long, TodoResponse> loader) {
+        CompletableFuture<TodoResponse> loading = new CompletableFuture<>();
+        CompletableFuture<TodoResponse> cached = cache.asMap().putIfAbsent(todoId, loading);
+        if (cached != null) {
+            return join(cached);
+        }
+
+        // 맵의 잠금 밖, 요청 스레드에서 조회합니다.
+        try {
+            loading.complete(loader.apply(todoId));
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+        }
+        return join(loading);
+    }
+
+    /**
+     * 일정의 현재 버전. invalidate 되기 전까지 같은 값을 반환합니다.
+     * 버전을 먼저 읽고 응답을 만들면, 그 사이 변경이 커밋되어도 결과는 이전 버전 키에만 남습니다.
+     */
+    public long version(long todoId) {
+        return versions.get(todoId, id -> versionSequence.incrementAndGet());
+    }
+
+    // 응답을 먼저 지운 뒤 버전을 바꿔, 새 버전으로 조회한 요청이 지워지기 전의 응답을 읽지 않게 합니다.
+    public void invalidate(long todoId) {
+        cache.synchronous().invalidate(todoId);
+        versions.invalidate(todoId);
+    }
+
+    // 여러 일정을 한 번에 바꾸는 벌크 UPDATE 처럼 어떤 id 가 바뀌었는지 모를 때 사용합니다.
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+        versions.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등 (cache=todo.response)
+        CaffeineCacheMetrics.monitor(registry, cache, "todo.response");
+    }
+
+    private static TodoResponse join(CompletableFuture<TodoResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int weigh(TodoResponse response) {
+        UserResponse user = response.getUser();
+        return BASE_WEIGHT + 2 * (length(response.getTitle()) + length(response.getContents())
+                + length(response.getWeather()) + length(user == null ? null : user.getEmail()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -1,35 +1,65 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.config.JsonBytes;
+import org.example.expert.config.JsonBytesCache;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCountResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoListVersionRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    // 커서 페이지 한 번에 읽는 최대 일정 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final TodoListVersionRepository todoListVersionRepository;
+    private final WeatherProvider weatherProvider;
+    private final TodoCountCache todoCountCache;
+    private final TodoResponseCache todoResponseCache;
+    private final JsonBytesCache jsonBytesCache;
+
+    // true 면 날씨 없이(null) 바로 저장하고 TodoWeatherBackfill 이 나중에 채웁니다.
+    @Value("${todo.weather.deferred:false}")
+    private boolean deferredWeather;
+
+    // POST /todos/batch 에서 한 번의 JDBC 배치로 보내는 일정 수 (담당자 행도 같은 수만큼 따로 묶입니다)
+    @Value("${todo.batch.jdbc-batch-size:50}")
+    private int jdbcBatchSize;
 
-    @Transactional
+    // 날씨 조회가 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 조회하고, 저장만 repository 의 트랜잭션에서 수행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = deferredWeather ? null : weatherProvider.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -37,7 +67,7 @@ public class TodoService {
                 weather,
                 user
         );
-        Todo savedTodo = todoRepository.save(newTodo);
+        Todo savedTodo = todoRepository.insert(newTodo);
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -48,36 +78,97 @@ public class TodoService {
         );
     }
 
+    // 날씨는 트랜잭션 밖에서 한 번만 조회해 모든 일정에 쓰고, 저장은 repository 의 한 트랜잭션에서 배치로 수행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        String weather = deferredWeather ? null : weatherProvider.getTodayWeather();
+
+        List<Todo> todos = todoBatchSaveRequest.getTodos().stream()
+                .map(request -> new Todo(request.getTitle(), request.getContents(), weather, user))
+                .toList();
+        todoRepository.insertAll(todos, jdbcBatchSize);
+
+        return new TodoBatchSaveResponse(todos.stream().map(Todo::getId).toList());
+    }
+
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+    }
+
+    // 목록의 ETag: 일정을 쓰는 모든 트랜잭션이 함께 올리는 TodoListVersion 이므로 어느 노드의 추가, 삭제, 날씨 backfill 이든 바로 드러납니다.
+    // 기본 키로 한 행만 읽습니다.
+    public ResourceVersion getTodoListVersion() {
+        return ResourceVersion.of(todoListVersionRepository.findCurrent().orElse(0L));
+    }
+
+    public Slice<TodoResponse> getTodoSlice(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        return todoRepository.findSliceByOrderByModifiedAtDesc(pageable);
+    }
+
+    public TodoCountResponse getTodoCount() {
+        return todoCountCache.get();
+    }
+
+    // 깊이와 관계없이 커서 위치부터 size + 1 행만 읽고, 남는 한 행으로 다음 페이지가 있는지 판단합니다.
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        TodoCursor after = TodoCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<TodoResponse> todos = after == null
+                ? todoRepository.findFirstByCursor(limit)
+                : todoRepository.findAfterCursor(after.modifiedAt(), after.id(), limit);
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> page = hasNext ? todos.subList(0, size) : todos;
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = page.get(page.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoCursorResponse(page, nextCursor);
     }
 
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        return todoResponseCache.get(todoId, id -> todoRepository.findResponseById(id)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found")));
+    }
+
+    // 캐시된 응답의 버전과 수정 시각을 쓰므로 캐시에 있으면 DB 를 거치지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResourceVersion getTodoVersion(long todoId) {
+        TodoResponse todo = getTodo(todoId);
+        return ResourceVersion.of(todo.getVersion(), todo.getModifiedAt());
+    }
+
+    // 캐시에서 찾으면 트랜잭션(DB 커넥션) 없이 직렬화된 응답을 바로 반환합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public JsonBytes getTodoJson(long todoId) {
+        long version = todoResponseCache.version(todoId);
+        return jsonBytesCache.get("todo", todoId, version, () -> getTodo(todoId));
+    }
+
+    // 작성자 확인은 댓글을 읽지 않는 일정 조회로 하고, 삭제는 repository 의 트랜잭션에서 집합 단위로 수행한 뒤 커밋되면 캐시를 지웁니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        int deleted = todoRepository.deleteAllInBulk(List.of(todoId));
+        todoResponseCache.invalidate(todoId);
+        todoCountCache.add(-deleted);
     }
 }
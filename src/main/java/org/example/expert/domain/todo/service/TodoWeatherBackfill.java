@@ -0,0 +1,73 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * todo.weather.deferred 모드에서 날씨 없이 저장된 일정의 날씨를 채웁니다.
+ * 가장 오래된 작성일부터 날짜별로 작성일의 날씨를 한 번 조회해 그날의 일정을 UPDATE 한 번으로 갱신합니다.
+ * 피드에 없는 날짜는 건너뛰고 다음 실행에서 다시 시도합니다.
+ */
+@Slf4j(topic = "TodoWeatherBackfill")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "todo.weather.deferred", havingValue = "true")
+public class TodoWeatherBackfill implements MeterBinder {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TodoRepository todoRepository;
+    private final WeatherProvider weatherProvider;
+    private final TodoResponseCache todoResponseCache;
+
+    private final LongAdder filled = new LongAdder();
+
+    @Scheduled(fixedDelayString = "${todo.weather.backfill-interval-ms:1000}")
+    public void backfill() {
+        LocalDateTime from = EPOCH;
+        LocalDateTime oldest;
+        while ((oldest = todoRepository.findOldestCreatedAtWithoutWeather(from)) != null) {
+            LocalDate date = oldest.toLocalDate();
+            from = date.plusDays(1).atStartOfDay();
+
+            String weather;
+            try {
+                weather = weatherProvider.findWeather(date);
+            } catch (RuntimeException e) {
+                log.warn("날씨를 가져오지 못해 다음에 다시 시도합니다. ({})", e.getMessage());
+                return;
+            }
+            if (weather == null) {
+                log.warn("{} 날씨가 피드에 없어 건너뜁니다.", date);
+                continue;
+            }
+
+            int updated = todoRepository.fillWeather(weather, date.atStartOfDay(), from);
+            if (updated > 0) {
+                // 벌크 UPDATE 는 엔티티 이벤트가 없어 TodoCacheInvalidator 가 알 수 없습니다.
+                todoResponseCache.invalidateAll();
+            }
+            filled.add(updated);
+            log.debug("{} 일정 {}건의 날씨를 채웠습니다.", date, updated);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.weather.backfilled", filled, LongAdder::sum)
+                .description("나중에 날씨를 채운 일정 수")
+                .register(registry);
+    }
+}
@@ -2,15 +2,17 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
-
 public enum UserRole {
     ADMIN, USER;
 
+    private static final UserRole[] VALUES = values();
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        for (UserRole userRole : VALUES) {
+            if (userRole.name().equalsIgnoreCase(role)) {
+                return userRole;
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UerRole");
     }
 }
@@ -1,11 +1,29 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 로그인용 조회입니다. 비밀번호 해시와 권한은 노드 사이에 공유되지 않는 2차 캐시를 거치지 않도록
+    // 쿼리 캐시에 두지 않고, 읽은 유저도 캐시에 넣지 않아 항상 DB 의 현재 값으로 검증합니다.
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "IGNORE"))
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserEmail> findEmailsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    interface UserEmail {
+        Long getId();
+        String getEmail();
+    }
 }
@@ -2,6 +2,7 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -23,6 +24,12 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
+    // 유저는 2차 캐시에서 읽으므로 보통 DB 를 거치지 않습니다.
+    public ResourceVersion getUserVersion(long userId) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        return ResourceVersion.of(user.getModifiedAt());
+    }
+
     @Transactional
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         if (!validatePassword(userChangePasswordRequest.getNewPassword())) {
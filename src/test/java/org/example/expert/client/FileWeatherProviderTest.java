@@ -0,0 +1,55 @@
+package org.example.expert.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+class FileWeatherProviderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 파일의_날씨를_날짜로_조회한다() throws Exception {
+        // given
+        Path file = tempDir.resolve("weather.json");
+        Files.writeString(file, "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"date\":\"02-29\",\"weather\":\"Snowy\"}]");
+
+        // when
+        FileWeatherProvider provider = new FileWeatherProvider(new FileSystemResource(file));
+
+        // then
+        assertEquals("Sunny", provider.findWeather(LocalDate.of(2025, 1, 1)));
+        assertEquals("Snowy", provider.findWeather(LocalDate.of(2028, 2, 29)));
+        assertNull(provider.findWeather(LocalDate.of(2025, 1, 2)));
+    }
+
+    @Test
+    void 파일이_없으면_기동에_실패한다() {
+        // when & then
+        assertThrows(UncheckedIOException.class,
+                () -> new FileWeatherProvider(new FileSystemResource(tempDir.resolve("missing.json"))));
+    }
+
+    @Test
+    void 합성_피드는_클래스패스에서_1년치를_읽는다() {
+        // when
+        FileWeatherProvider provider = new FileWeatherProvider(new ClassPathResource("weather-synthetic.json"));
+
+        // then
+        for (LocalDate date = LocalDate.of(2024, 1, 1); date.getYear() == 2024; date = date.plusDays(1)) {
+            assertNotNull(provider.findWeather(date), date.toString());
+        }
+    }
+}
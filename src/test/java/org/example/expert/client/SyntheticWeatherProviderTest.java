@@ -0,0 +1,38 @@
+package org.example.expert.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+class SyntheticWeatherProviderTest {
+
+    @Test
+    void 지정한_만큼_지연한_뒤_날짜로_정해진_날씨를_반환한다() {
+        // given
+        SyntheticWeatherProvider provider = new SyntheticWeatherProvider(50, 0, 0);
+        LocalDate date = LocalDate.of(2025, 1, 1);
+
+        // when
+        long start = System.nanoTime();
+        String weather = provider.findWeather(date);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertEquals(weather, provider.findWeather(date));
+        assertTrue(elapsedMillis >= 50, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void 실패율이_1이면_항상_실패한다() {
+        // given
+        SyntheticWeatherProvider provider = new SyntheticWeatherProvider(0, 0, 1.0);
+
+        // when & then
+        assertThrows(ServerException.class, provider::getTodayWeather);
+    }
+}
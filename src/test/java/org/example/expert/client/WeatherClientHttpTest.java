@@ -0,0 +1,213 @@
+package org.example.expert.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.example.expert.config.DeadlineHttpRequestFactory;
+import org.example.expert.config.WeatherHttpConfig;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 지연과 오류를 주입할 수 있는 로컬 HTTP 서버를 상대로 커넥션 풀, 시간 제한, 서킷 브레이커를 확인합니다.
+class WeatherClientHttpTest {
+
+    private static final byte[] WEATHER_JSON =
+            "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"date\":\"01-02\",\"weather\":\"Rainy\"}]"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile int status = 200;
+    private volatile long delayMillis;
+    // 0 보다 크면 본문을 한 바이트씩 이 간격으로 보냅니다.
+    private volatile long trickleMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private DeadlineHttpRequestFactory requestFactory;
+    private MutableClock clock;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/f-api/weather.json", exchange -> {
+            hits.incrementAndGet();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, WEATHER_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                if (trickleMillis > 0) {
+                    for (byte b : WEATHER_JSON) {
+                        body.write(b);
+                        body.flush();
+                        Thread.sleep(trickleMillis);
+                    }
+                } else {
+                    body.write(WEATHER_JSON);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+
+        WeatherHttpConfig config = new WeatherHttpConfig();
+        connectionManager = config.weatherConnectionManager(4, 500, 300);
+        httpClient = config.weatherHttpClient(connectionManager, 200, 300);
+        requestFactory = config.weatherRequestFactory(httpClient, 800);
+        clock = new MutableClock(Instant.parse("2025-01-01T09:00:00Z"));
+        weatherClient = new WeatherClient(
+                new RestTemplateBuilder().requestFactory(() -> requestFactory),
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                null,
+                new CircuitBreaker(2, Duration.ofSeconds(30), clock),
+                clock
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        requestFactory.destroy();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void 연결을_keep_alive_로_재사용한다() {
+        // when
+        weatherClient.refresh();
+        weatherClient.refresh();
+        weatherClient.refresh();
+
+        // then
+        assertEquals(3, hits.get());
+        assertEquals(1, clientPorts.size());
+        assertEquals(1, connectionManager.getTotalStats().getAvailable());
+        assertEquals(0, connectionManager.getTotalStats().getLeased());
+    }
+
+    @Test
+    void 응답이_늦으면_읽기_시간_제한으로_실패한다() {
+        // given
+        delayMillis = 2000;
+
+        // when
+        long start = System.nanoTime();
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertTrue(exception.getMessage().startsWith("날씨 데이터를 가져오는데 실패했습니다."));
+        assertTrue(elapsedMillis < 1500, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void 끝난_호출의_시간_제한_타이머는_바로_취소된다() {
+        // when
+        weatherClient.refresh();
+        status = 500;
+        weatherClient.refresh();
+
+        // then
+        assertEquals(2, hits.get());
+        assertEquals(0, requestFactory.pendingDeadlines());
+    }
+
+    @Test
+    void 본문을_조금씩_계속_보내도_호출_전체_시간_제한으로_실패한다() {
+        // given
+        // 바이트 사이 간격(100ms)은 읽기 시간 제한(300ms)보다 짧지만, 본문 전체는 수 초가 걸립니다.
+        trickleMillis = 100;
+
+        // when
+        long start = System.nanoTime();
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertTrue(exception.getMessage().startsWith("날씨 데이터를 가져오는데 실패했습니다."), exception.getMessage());
+        assertTrue(elapsedMillis < 1500, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void 시간_제한으로_끊긴_호출도_서킷_브레이커의_실패로_센다() {
+        // given
+        trickleMillis = 100;
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertEquals("날씨 서비스를 일시적으로 사용할 수 없습니다.", exception.getMessage());
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void 연속으로_실패하면_서킷이_열려_외부_호출_없이_실패한다() {
+        // given
+        status = 500;
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertEquals("날씨 서비스를 일시적으로 사용할 수 없습니다.", exception.getMessage());
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void 서킷이_열린_동안에는_기존_색인을_사용하고_시간이_지나면_다시_시도한다() {
+        // given
+        weatherClient.refresh();
+        status = 503;
+        weatherClient.refresh();
+        weatherClient.refresh();
+
+        // when
+        weatherClient.refresh();
+        String whileOpen = weatherClient.getTodayWeather();
+        int hitsWhileOpen = hits.get();
+
+        status = 200;
+        clock.advance(Duration.ofSeconds(31));
+        weatherClient.refresh();
+        weatherClient.refresh();
+
+        // then
+        assertEquals("Sunny", whileOpen);
+        assertEquals(3, hitsWhileOpen);
+        assertEquals(5, hits.get());
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.expert.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class WeatherClientTest {
+
+    private static final String WEATHER_URL = "https://f-api.github.io/f-api/weather.json";
+    private static final String WEATHER_JSON = """
+            [{"date":"01-01","weather":"Sunny"},{"date":"01-02","weather":"Rainy"}]
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path snapshotPath;
+    private MutableClock clock;
+    private MockRestServiceServer server;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        snapshotPath = tempDir.resolve("weather.snapshot");
+        clock = new MutableClock(Instant.parse("2025-01-01T09:00:00Z"));
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        weatherClient = newClient(customizer);
+        server = customizer.getServer();
+    }
+
+    @Test
+    void 피드를_한_번_받은_뒤에는_날짜가_바뀌어도_다시_요청하지_않는다() {
+        // given
+        server.expect(once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        clock.advance(Duration.ofDays(1));
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Rainy", second);
+        server.verify();
+    }
+
+    @Test
+    void 갱신에_실패하면_기존_색인을_계속_사용한다() {
+        // given
+        server.expect(requestTo(WEATHER_URL))
+                .andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo(WEATHER_URL))
+                .andRespond(withServerError());
+        weatherClient.getTodayWeather();
+
+        // when
+        weatherClient.refresh();
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", weather);
+        server.verify();
+    }
+
+    @Test
+    void 스냅샷이_있으면_네트워크_없이_조회한다() {
+        // given
+        server.expect(once(), requestTo(WEATHER_URL))
+                .andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+        weatherClient.getTodayWeather();
+        server.verify();
+
+        MockServerRestTemplateCustomizer offline = new MockServerRestTemplateCustomizer();
+        WeatherClient restarted = newClient(offline);
+
+        // when
+        clock.advance(Duration.ofDays(1));
+        String weather = restarted.getTodayWeather();
+
+        // then
+        assertEquals("Rainy", weather);
+        offline.getServer().verify();
+    }
+
+    @Test
+    void 피드에_오늘_날짜가_없으면_예외가_발생한다() {
+        // given
+        server.expect(requestTo(WEATHER_URL))
+                .andRespond(withSuccess("[{\"date\":\"03-01\",\"weather\":\"Sunny\"}]", MediaType.APPLICATION_JSON));
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 캐시된_색인이_없을_때_피드가_비어_있으면_예외가_발생한다() {
+        // given
+        server.expect(requestTo(WEATHER_URL))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 동시에_들어온_요청은_한_번의_호출을_함께_기다린다() throws Exception {
+        // given
+        int threads = 8;
+        CountDownLatch waiting = new CountDownLatch(1);
+        server.expect(once(), requestTo(WEATHER_URL))
+                .andRespond(request -> {
+                    try {
+                        waiting.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(weatherClient::getTodayWeather));
+        }
+        Thread.sleep(200);
+        waiting.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Sunny", result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        server.verify();
+    }
+
+    @Test
+    void 시험_호출이_Error_로_끝나도_서킷이_HALF_OPEN_에_머물지_않는다() {
+        // given
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, Duration.ofSeconds(30), clock);
+        WeatherClient client = new WeatherClient(new RestTemplateBuilder(customizer), "https://f-api.github.io", null,
+                circuitBreaker, clock);
+        MockRestServiceServer mockServer = customizer.getServer();
+        mockServer.expect(requestTo(WEATHER_URL)).andRespond(withServerError());
+        mockServer.expect(requestTo(WEATHER_URL)).andRespond(request -> {
+            throw new LinkageError("trial");
+        });
+        mockServer.expect(requestTo(WEATHER_URL)).andRespond(withSuccess(WEATHER_JSON, MediaType.APPLICATION_JSON));
+        assertThrows(ServerException.class, client::getTodayWeather);
+        clock.advance(Duration.ofSeconds(31));
+
+        // when
+        assertThrows(LinkageError.class, client::getTodayWeather);
+        CircuitBreaker.State afterTrial = circuitBreaker.state();
+        clock.advance(Duration.ofSeconds(31));
+        String weather = client.getTodayWeather();
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, afterTrial);
+        assertEquals("Sunny", weather);
+        mockServer.verify();
+    }
+
+    private WeatherClient newClient(MockServerRestTemplateCustomizer customizer) {
+        return new WeatherClient(new RestTemplateBuilder(customizer), "https://f-api.github.io", snapshotPath,
+                new CircuitBreaker(5, Duration.ofSeconds(30), clock), clock);
+    }
+}
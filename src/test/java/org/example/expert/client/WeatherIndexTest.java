@@ -0,0 +1,95 @@
+package org.example.expert.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+class WeatherIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 윤년의_모든_날짜를_색인하고_스냅샷으로_복원한다() throws Exception {
+        // given
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        WeatherDto[] feed = new WeatherDto[WeatherIndex.DAYS];
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < feed.length; i++) {
+            feed[i] = new WeatherDto(date.plusDays(i).format(formatter), i % 2 == 0 ? "Sunny" : "Rainy");
+        }
+        Path snapshot = tempDir.resolve("weather.snapshot");
+
+        // when
+        WeatherIndex.of(feed).writeTo(snapshot);
+        WeatherIndex restored = WeatherIndex.readFrom(snapshot);
+
+        // then
+        assertEquals(WeatherIndex.DAYS, restored.size());
+        for (int i = 0; i < feed.length; i++) {
+            assertEquals(feed[i].getWeather(), restored.get(date.plusDays(i)));
+        }
+        assertEquals("Rainy", restored.get(LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    void 형식이_맞지_않는_날짜는_건너뛴다() {
+        // given
+        WeatherDto[] feed = {
+                new WeatherDto("02-30", "Sunny"),
+                new WeatherDto("13-01", "Sunny"),
+                new WeatherDto("1-01", "Sunny"),
+                new WeatherDto(null, "Sunny"),
+                new WeatherDto("03-01", "Cloudy")
+        };
+
+        // when
+        WeatherIndex index = WeatherIndex.of(feed);
+
+        // then
+        assertEquals(1, index.size());
+        assertEquals("Cloudy", index.get(LocalDate.of(2025, 3, 1)));
+        assertNull(index.get(LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    void 피드를_토큰_단위로_읽고_모르는_필드는_건너뛴다() throws Exception {
+        // given
+        String feed = """
+                [{"date":"01-01","extra":{"a":[1,2]},"weather":"Sunny"},
+                 {"weather":"Sunny","date":"01-02"},
+                 {"date":"01-01","weather":"Rainy"},
+                 {"date":20250103,"weather":"Rainy"}]
+                """;
+
+        // when
+        WeatherIndex index = WeatherIndex.parse(new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(2, index.size());
+        assertEquals("Sunny", index.get(LocalDate.of(2025, 1, 1)));
+        assertSame(index.get(LocalDate.of(2025, 1, 1)), index.get(LocalDate.of(2025, 1, 2)));
+    }
+
+    @Test
+    void 배열이_아닌_피드는_읽지_않는다() {
+        // given
+        String feed = "{\"date\":\"01-01\",\"weather\":\"Sunny\"}";
+
+        // when & then
+        assertThrows(JsonParseException.class,
+                () -> WeatherIndex.parse(new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AuthUserTaskDecoratorTest {
+
+    private final AuthUserTaskDecorator decorator = new AuthUserTaskDecorator();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        AuthUserContext.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 작업을_넘긴_스레드의_AuthUser_를_그대로_전달한다() throws Exception {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        AuthUserContext.set(authUser);
+        AtomicReference<AuthUser> seen = new AtomicReference<>();
+
+        // when
+        Runnable task = decorator.decorate(() -> seen.set(AuthUserContext.get()));
+        CompletableFuture.runAsync(task, executor).get();
+        AtomicReference<AuthUser> after = new AtomicReference<>();
+        CompletableFuture.runAsync(() -> after.set(AuthUserContext.get()), executor).get();
+
+        // then
+        assertSame(authUser, seen.get());
+        assertNull(after.get());
+    }
+}
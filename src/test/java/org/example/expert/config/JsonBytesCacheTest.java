@@ -0,0 +1,87 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class JsonBytesCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 같은_버전은_한_번만_직렬화하고_버전이_바뀌면_다시_만든다() {
+        // given
+        JsonBytesCache cache = new JsonBytesCache(objectMapper, 1 << 20, Duration.ofSeconds(60), false);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        JsonBytes first = cache.get("user", 1L, 1L, () -> user(loads));
+        JsonBytes second = cache.get("user", 1L, 1L, () -> user(loads));
+        JsonBytes otherResource = cache.get("managers", 1L, 1L, () -> user(loads));
+        JsonBytes nextVersion = cache.get("user", 1L, 2L, () -> user(loads));
+
+        // then
+        assertSame(first, second);
+        assertTrue(first != otherResource && first != nextVersion);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void direct_버퍼에_담은_JSON_은_Jackson_출력과_같다() throws IOException {
+        // given
+        JsonBytesCache cache = new JsonBytesCache(objectMapper, 1 << 20, Duration.ofSeconds(60), true);
+        UserResponse response = new UserResponse(1L, "x".repeat(20_000) + "@example.com");
+
+        // when
+        JsonBytes json = cache.get("user", 1L, 1L, () -> response);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.writeTo(out);
+        json.writeTo(out);
+
+        // then
+        byte[] expected = objectMapper.writeValueAsBytes(response);
+        assertTrue(json.isDirect());
+        assertEquals(expected.length, json.length());
+        assertArrayEquals(concat(expected, expected), out.toByteArray());
+    }
+
+    @Test
+    void 조회_예외는_전파되고_캐시되지_않는다() {
+        // given
+        JsonBytesCache cache = new JsonBytesCache(objectMapper, 1 << 20, Duration.ofSeconds(60), false);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        assertThrows(InvalidRequestException.class, () -> cache.get("user", 1L, 1L, () -> {
+            throw new InvalidRequestException("Todo not found");
+        }));
+        cache.get("user", 1L, 1L, () -> user(loads));
+
+        // then
+        assertEquals(1, loads.get());
+    }
+
+    private static UserResponse user(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new UserResponse(1L, "user@example.com");
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] joined = new byte[a.length + b.length];
+        System.arraycopy(a, 0, joined, 0, a.length);
+        System.arraycopy(b, 0, joined, a.length, b.length);
+        return joined;
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtClaimsCacheTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+            Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-0123".getBytes()));
+        jwtUtil.init();
+    }
+
+    @Test
+    void 같은_토큰은_한번만_검증한다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(10);
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        JwtClaims first = cache.get(token, t -> {
+            loads.incrementAndGet();
+            return jwtUtil.extractClaims(t);
+        });
+        JwtClaims second = cache.get(token, t -> {
+            loads.incrementAndGet();
+            return jwtUtil.extractClaims(t);
+        });
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_항목을_제거한다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(2);
+
+        // when
+        for (long userId = 1; userId <= 5; userId++) {
+            String token = jwtUtil.substringToken(jwtUtil.createToken(userId, "a@a.com", UserRole.USER));
+            cache.get(token, jwtUtil::extractClaims);
+        }
+
+        // then
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.evictionCount());
+        assertEquals(5, cache.missCount());
+    }
+
+    @Test
+    void 가득_차도_자주_쓰는_토큰은_남긴다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(2);
+        String hot = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+        for (int i = 0; i < 5; i++) {
+            cache.get(hot, jwtUtil::extractClaims);
+        }
+
+        // when
+        for (long userId = 2; userId <= 6; userId++) {
+            String token = jwtUtil.substringToken(jwtUtil.createToken(userId, "a@a.com", UserRole.USER));
+            cache.get(token, jwtUtil::extractClaims);
+        }
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(hot, t -> {
+            loads.incrementAndGet();
+            return jwtUtil.extractClaims(t);
+        });
+
+        // then
+        assertEquals(0, loads.get());
+        assertEquals(2, cache.size());
+    }
+}
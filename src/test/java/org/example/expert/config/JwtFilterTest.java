@@ -0,0 +1,66 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Base64;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtFilterTest {
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+            Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-0123".getBytes()));
+        jwtUtil.init();
+        RoutePolicy routePolicy = RoutePolicy.builder()
+            .permitAll("/auth/**")
+            .admin("/admin/**")
+            .build();
+        jwtFilter = new JwtFilter(jwtUtil, new JwtClaimsCache(10), routePolicy, new TokenDenylist(60_000));
+    }
+
+    @Test
+    void 매트릭스_변수나_인코딩으로_관리자_경로를_우회할_수_없다() throws Exception {
+        for (String uri : new String[]{"/admin;x/users/1", "/%61dmin/users/1", "/admin/users/1"}) {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("PATCH", uri);
+            request.addHeader("Authorization", jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            // when
+            jwtFilter.doFilter(request, response, chain);
+
+            // then
+            assertEquals(403, response.getStatus(), uri);
+            assertNull(chain.getRequest(), uri);
+        }
+    }
+
+    @Test
+    void 매트릭스_변수가_붙은_공개_경로는_토큰_없이_통과한다() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth;x/signin");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.security.Key;
+import java.util.Date;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+class JwtVerifierTest {
+
+    private static final byte[] SECRET = "test-secret-key-test-secret-key-0123".getBytes();
+
+    private final Key key = Keys.hmacShaKeyFor(SECRET);
+    private final JwtVerifier verifier = new JwtVerifier(SECRET);
+
+    @Test
+    void 정상_토큰의_claims_를_읽는다() {
+        // given
+        Date now = new Date();
+        String token = Jwts.builder()
+            .setSubject("42")
+            .claim("email", "a\"b@a.com")
+            .claim("userRole", UserRole.ADMIN)
+            .claim("extra", new int[]{1, 2})
+            .setExpiration(new Date(now.getTime() + 60_000))
+            .setIssuedAt(now)
+            .signWith(key, SignatureAlgorithm.HS256)
+            .compact();
+
+        // when
+        JwtClaims claims = verifier.verify(token);
+
+        // then
+        assertEquals(42L, claims.getUserId());
+        assertEquals("a\"b@a.com", claims.getEmail());
+        assertEquals(UserRole.ADMIN, claims.getUserRole());
+        assertEquals(now.getTime() / 1000 * 1000, claims.getIssuedAt());
+    }
+
+    @Test
+    void 만료된_토큰은_ExpiredJwtException_을_던진다() {
+        // given
+        String token = token(new Date(System.currentTimeMillis() - 1000));
+
+        // when/then
+        assertThrows(ExpiredJwtException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void 서명이_다르면_SignatureException_을_던진다() {
+        // given
+        String token = token(new Date(System.currentTimeMillis() + 60_000));
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        // when/then
+        assertThrows(SignatureException.class, () -> verifier.verify(tampered));
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_MalformedJwtException_을_던진다() {
+        assertThrows(MalformedJwtException.class, () -> verifier.verify("abc.def"));
+        assertThrows(MalformedJwtException.class, () -> verifier.verify("a$c.def.ghi"));
+    }
+
+    @Test
+    void 서명_없는_토큰은_UnsupportedJwtException_을_던진다() {
+        // given
+        String token = Jwts.builder().setSubject("1").compact();
+
+        // when/then
+        assertThrows(UnsupportedJwtException.class, () -> verifier.verify(token));
+    }
+
+    private String token(Date expiration) {
+        return Jwts.builder()
+            .setSubject("1")
+            .claim("email", "a@a.com")
+            .claim("userRole", UserRole.USER)
+            .setExpiration(expiration)
+            .setIssuedAt(new Date())
+            .signWith(key, SignatureAlgorithm.HS256)
+            .compact();
+    }
+}
@@ -1,15 +1,21 @@
 package org.example.expert.config;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
+    @Spy
+    private PasswordHashExecutor hashExecutor = new PasswordHashExecutor(1, 1, 5000);
+
     @InjectMocks
     private PasswordEncoder passwordEncoder;
 
@@ -25,4 +31,17 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 현재_비용과_다른_해시는_재해시가_필요하다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+        String otherCostPassword = BCrypt.withDefaults()
+            .hashToString(passwordEncoder.getCost() + 1, "testPassword".toCharArray());
+
+        // when/then
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+        assertTrue(passwordEncoder.needsRehash(otherCostPassword));
+        assertTrue(passwordEncoder.matches("testPassword", otherCostPassword));
+    }
 }
@@ -0,0 +1,67 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PasswordHashExecutorTest {
+
+    private final PasswordHashExecutor hashExecutor = new PasswordHashExecutor(1, 1, 5000);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        hashExecutor.shutdown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void 작업_결과를_반환한다() {
+        assertEquals("hash", hashExecutor.execute(() -> "hash"));
+    }
+
+    @Test
+    void 작업에서_발생한_예외는_그대로_전파된다() {
+        assertThrows(InvalidRequestException.class, () -> hashExecutor.execute(() -> {
+            throw new InvalidRequestException("error");
+        }));
+    }
+
+    @Test
+    void 대기열이_가득_차면_ServerBusyException_을_던진다() throws Exception {
+        // given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> hashExecutor.execute(() -> {
+            running.countDown();
+            await(release);
+            return null;
+        }));
+        running.await(5, TimeUnit.SECONDS);
+        callers.submit(() -> hashExecutor.execute(() -> null));
+        while (hashExecutor.queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // when/then
+        assertThrows(ServerBusyException.class, () -> hashExecutor.execute(() -> "hash"));
+        assertEquals(1, hashExecutor.rejectedCount());
+        release.countDown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.example.expert.config.RoutePolicy.AccessLevel;
+import org.junit.jupiter.api.Test;
+
+class RoutePolicyTest {
+
+    private final RoutePolicy routePolicy = RoutePolicy.builder()
+        .permitAll("/auth/**", "/favicon.ico", "/todos/*/public")
+        .admin("/admin/**")
+        .build();
+
+    @Test
+    void 하위_경로_패턴은_접두_경로와_그_아래를_모두_포함한다() {
+        assertEquals(AccessLevel.PUBLIC, routePolicy.resolve("/auth"));
+        assertEquals(AccessLevel.PUBLIC, routePolicy.resolve("/auth/signin"));
+        assertEquals(AccessLevel.ADMIN, routePolicy.resolve("/admin/users/1"));
+    }
+
+    @Test
+    void 세그먼트_단위로_비교한다() {
+        assertEquals(AccessLevel.AUTHENTICATED, routePolicy.resolve("/authx"));
+        assertEquals(AccessLevel.AUTHENTICATED, routePolicy.resolve("/administrator"));
+    }
+
+    @Test
+    void 정확한_경로와_와일드카드_세그먼트() {
+        assertEquals(AccessLevel.PUBLIC, routePolicy.resolve("/favicon.ico"));
+        assertEquals(AccessLevel.PUBLIC, routePolicy.resolve("/todos/1/public"));
+        assertEquals(AccessLevel.AUTHENTICATED, routePolicy.resolve("/todos/1"));
+        assertEquals(AccessLevel.AUTHENTICATED, routePolicy.resolve("/todos/1/public/2"));
+    }
+
+    @Test
+    void 등록되지_않은_경로는_기본_수준을_따른다() {
+        assertEquals(AccessLevel.AUTHENTICATED, routePolicy.resolve("/"));
+        assertEquals(AccessLevel.AUTHENTICATED, routePolicy.resolve("/users/1"));
+    }
+
+    @Test
+    void 세그먼트의_매트릭스_변수는_비교에서_뺀다() {
+        assertEquals(AccessLevel.ADMIN, routePolicy.resolve("/admin;x/users/1"));
+        assertEquals(AccessLevel.ADMIN, routePolicy.resolve("/;x/admin/users/1"));
+        assertEquals(AccessLevel.PUBLIC, routePolicy.resolve("/auth;x/signin"));
+        assertEquals(AccessLevel.PUBLIC, routePolicy.resolve("/todos/1;v=2/public"));
+        assertEquals(AccessLevel.AUTHENTICATED, routePolicy.resolve("/favicon.ico;x/1"));
+    }
+}
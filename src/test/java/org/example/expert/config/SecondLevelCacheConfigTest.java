@@ -0,0 +1,128 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+// 2차 캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션 없이 repository 호출마다 커밋합니다.
+// IDENTITY 로 INSERT 한 유저는 캐시에 넣지 않으므로 저장 후 첫 조회는 DB 에서 읽어 캐시를 채웁니다.
+// 시퀀스로 id 를 받는 일정은 커밋할 때 캐시에 들어갑니다.
+@DataJpaTest
+@Import({PersistenceConfig.class, SecondLevelCacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheConfigTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void 한_번_읽은_유저는_DB_를_거치지_않고_2차_캐시에서_찾는다() {
+        // given
+        User user = userRepository.save(new User("cache@example.com", "password", UserRole.USER));
+
+        // when
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+
+        // then
+        assertEquals(1, statistics.getDomainDataRegionStatistics("user").getMissCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics("user").getHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void 유저를_수정하면_캐시에도_반영된다() {
+        // given
+        User user = userRepository.save(new User("cache@example.com", "password", UserRole.USER));
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().updateRole(UserRole.ADMIN));
+
+        // then
+        assertEquals(UserRole.ADMIN, userRepository.findById(user.getId()).orElseThrow().getUserRole());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("user").getHitCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void 벌크_UPDATE_는_일정_캐시를_무효화한다() {
+        // given
+        User user = userRepository.save(new User("cache@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", null, user));
+        todoRepository.findById(todo.getId());
+
+        // when
+        LocalDateTime createdAt = todo.getCreatedAt();
+        todoRepository.fillWeather("Sunny", createdAt.minusDays(1), createdAt.plusDays(1));
+
+        // then
+        assertEquals("Sunny", todoRepository.findById(todo.getId()).orElseThrow().getWeather());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("todo").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("todo").getMissCount());
+    }
+
+    @Test
+    void 로그인용_이메일_조회는_캐시를_거치지_않고_DB_의_현재_값을_읽는다() {
+        // given
+        User user = userRepository.save(new User("cache@example.com", "password", UserRole.USER));
+        userRepository.findById(user.getId());
+        jdbcTemplate.update("UPDATE users SET password = ?, user_role = ? WHERE id = ?", "changed", "ADMIN", user.getId());
+
+        // when
+        User found = userRepository.findByEmail("cache@example.com").orElseThrow();
+        userRepository.findByEmail("cache@example.com");
+
+        // then
+        assertEquals("changed", found.getPassword());
+        assertEquals(UserRole.ADMIN, found.getUserRole());
+        assertEquals(0, statistics.getQueryCachePutCount());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getDomainDataRegionStatistics("user").getHitCount());
+    }
+}
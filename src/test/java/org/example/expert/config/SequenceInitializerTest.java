@@ -0,0 +1,84 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 시퀀스 DDL 은 H2 에서 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 지웁니다.
+@DataJpaTest
+@Import({PersistenceConfig.class, SequenceInitializer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SequenceInitializerTest {
+
+    @Autowired
+    private SequenceInitializer sequenceInitializer;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 이미_행이_있는_테이블에도_id_가_겹치지_않게_저장한다() {
+        // given
+        User user = userRepository.save(new User("sequence@example.com", "password", UserRole.USER));
+        long maxId = nextSequenceValue("todos_seq") + 100;
+        insertLegacyTodo(maxId, user);
+
+        // when
+        sequenceInitializer.initialize();
+        Todo saved = todoRepository.insert(new Todo("title", "contents", "Sunny", user));
+
+        // then
+        assertTrue(saved.getId() > maxId, "id: " + saved.getId());
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Long.class));
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM managers", Long.class));
+    }
+
+    @Test
+    void 시퀀스가_없으면_만들고_기존_id_다음부터_준다() {
+        // given
+        User user = userRepository.save(new User("sequence@example.com", "password", UserRole.USER));
+        insertLegacyTodo(500, user);
+        jdbcTemplate.execute("DROP SEQUENCE managers_seq");
+
+        // when
+        sequenceInitializer.initialize();
+
+        // then
+        assertTrue(nextSequenceValue("managers_seq") >= 500 + 50);
+        assertTrue(nextSequenceValue("todos_seq") >= 500 + 50);
+    }
+
+    private long nextSequenceValue(String sequence) {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+    }
+
+    // IDENTITY 를 쓰던 때 저장된 일정과 담당자 행
+    private void insertLegacyTodo(long id, User user) {
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, version, user_id, created_at, modified_at) "
+                + "VALUES (?, 'legacy', 'contents', 'Sunny', 0, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id, user.getId());
+        jdbcTemplate.update("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)", id, user.getId(), id);
+    }
+}
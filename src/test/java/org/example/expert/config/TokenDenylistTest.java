@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TokenDenylistTest {
+
+    @Test
+    void 폐기한_토큰만_폐기된_것으로_확인된다() {
+        // given
+        TokenDenylist tokenDenylist = new TokenDenylist(60_000);
+        long expiration = System.currentTimeMillis() + 30 * 60 * 1000L;
+
+        // when
+        tokenDenylist.revoke("revoked", expiration);
+
+        // then
+        assertTrue(tokenDenylist.isRevoked("revoked", expiration));
+        assertFalse(tokenDenylist.isRevoked("active", expiration));
+        assertFalse(tokenDenylist.isRevoked(null, expiration));
+    }
+
+    @Test
+    void 이미_만료된_토큰은_보관하지_않는다() {
+        // given
+        TokenDenylist tokenDenylist = new TokenDenylist(60_000);
+
+        // when
+        tokenDenylist.revoke("expired", System.currentTimeMillis() - 1);
+
+        // then
+        assertEquals(0, tokenDenylist.size());
+    }
+
+    @Test
+    void 만료된_구간은_통째로_버린다() throws Exception {
+        // given
+        TokenDenylist tokenDenylist = new TokenDenylist(10);
+        tokenDenylist.revoke("a", System.currentTimeMillis() + 5);
+        tokenDenylist.revoke("b", System.currentTimeMillis() + 5);
+
+        // when
+        Thread.sleep(30);
+        tokenDenylist.purgeExpired();
+
+        // then
+        assertEquals(0, tokenDenylist.size());
+    }
+}
@@ -7,10 +7,14 @@ import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.Optional;
+import org.example.expert.config.JwtClaims;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenDenylist;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
@@ -20,6 +24,7 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,9 +41,18 @@ class AuthServiceTest {
     private JwtUtil jwtUtil;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+    @Mock
+    private TokenDenylist tokenDenylist;
     @InjectMocks
     private AuthService authService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(emailBloomFilter.mightContain(anyString())).thenReturn(true);
+    }
+
     @Test
     public void 회원가입_이미_존재하는_이메일_일_때(){
         // given
@@ -116,4 +130,77 @@ class AuthServiceTest {
         // then
         assertEquals(signin.getBearerToken(), user.getId() + user.getEmail() + user.getUserRole());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void 로그인_성공_시_해시_비용이_다르면_재해시한다() throws Exception {
+        // given
+        User user = new User("aaa@gmail.com", "oldHash",UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        SigninRequest request = new SigninRequest("aaa@mail.com", "1234");
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("1234", "oldHash")).willReturn(true);
+        given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(passwordEncoder.encode("1234")).willReturn("newHash");
+
+        // when
+        authService.signin(request);
+
+        // then
+        assertEquals("newHash", user.getPassword());
+    }
+
+    @Test
+    public void 로그인_Bloom_filter_에_없어도_DB_에_있으면_로그인하고_filter_에_넣는다() {
+        // given
+        User user = new User("aaa@mail.com", "1234",UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        SigninRequest request = new SigninRequest("aaa@mail.com", "1234");
+        lenient().when(emailBloomFilter.mightContain("aaa@mail.com")).thenReturn(false);
+        given(userRepository.findByEmail("aaa@mail.com")).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("1234", "1234")).willReturn(true);
+        given(jwtUtil.createToken(1L, "aaa@mail.com", UserRole.USER)).willReturn("Bearer 1234");
+
+        // when
+        SigninResponse signin = authService.signin(request);
+
+        // then
+        assertEquals("Bearer 1234", signin.getBearerToken());
+        verify(emailBloomFilter).put("aaa@mail.com");
+    }
+
+    @Test
+    public void 회원가입_Bloom_filter_에_없는_이메일은_중복_조회를_생략한다() {
+        // given
+        User user = new User("aaa@gmail.com", "1234",UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        SignupRequest request = new SignupRequest("aaa@gmail.com", "1234","USER");
+        given(emailBloomFilter.mightContain("aaa@gmail.com")).willReturn(false);
+        given(userRepository.save(any(User.class))).willReturn(user);
+        given(passwordEncoder.encode(anyString())).willReturn("1234");
+        given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn("Bearer 1234");
+
+        // when
+        authService.signup(request);
+
+        // then
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(emailBloomFilter).put("aaa@gmail.com");
+    }
+
+    @Test
+    public void 로그아웃_시_토큰을_폐기한다() {
+        // given
+        JwtClaims claims = new JwtClaims("jti", 1L, "aaa@mail.com", UserRole.USER, 0L, 1000L);
+        given(jwtUtil.substringToken("Bearer token")).willReturn("token");
+        given(jwtUtil.extractClaims("token")).willReturn(claims);
+
+        // when
+        authService.logout("Bearer token");
+
+        // then
+        verify(tokenDenylist).revoke("jti", 1000L);
+    }
+}
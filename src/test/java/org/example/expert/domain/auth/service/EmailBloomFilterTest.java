@@ -0,0 +1,96 @@
+package org.example.expert.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.repository.UserRepository.UserEmail;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EmailBloomFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void 만들어지기_전에는_항상_있을_수_있다고_답한다() {
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, 1000, 0.01, 600_000);
+
+        assertTrue(filter.mightContain("nobody@a.com"));
+    }
+
+    @Test
+    void DB_의_이메일과_가입한_이메일을_포함한다() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, 1000, 0.01, 600_000);
+        given(userRepository.count()).willReturn(1L);
+        given(userRepository.findEmailsAfter(anyLong(), any())).willReturn(List.of(userEmail(1L, "Aaa@a.com")));
+
+        // when
+        filter.rebuild();
+        filter.put("new@a.com");
+
+        // then
+        assertTrue(filter.mightContain("aaa@a.com"));
+        assertTrue(filter.mightContain("new@a.com"));
+        assertFalse(filter.mightContain("nobody@a.com"));
+    }
+
+    @Test
+    void 동기화는_마지막으로_읽은_id_이후만_읽는다() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, 1000, 0.01, 600_000);
+        given(userRepository.findEmailsAfter(eq(0L), any())).willReturn(List.of(userEmail(2L, "bbb@a.com")));
+        given(userRepository.findEmailsAfter(eq(2L), any())).willReturn(List.of(userEmail(3L, "ccc@a.com")));
+        filter.rebuild();
+
+        // when
+        filter.sync();
+
+        // then
+        assertTrue(filter.mightContain("ccc@a.com"));
+        verify(userRepository).findEmailsAfter(eq(2L), any());
+    }
+
+    @Test
+    void 다시_만들_때가_되면_늦게_커밋된_id_도_채운다() {
+        // given
+        EmailBloomFilter filter = new EmailBloomFilter(userRepository, 1000, 0.01, 0);
+        given(userRepository.findEmailsAfter(eq(0L), any()))
+                .willReturn(List.of(userEmail(2L, "bbb@a.com")))
+                .willReturn(List.of(userEmail(1L, "late@a.com"), userEmail(2L, "bbb@a.com")));
+        filter.rebuild();
+        assertFalse(filter.mightContain("late@a.com"));
+
+        // when
+        filter.sync();
+
+        // then
+        assertTrue(filter.mightContain("late@a.com"));
+        assertTrue(filter.mightContain("bbb@a.com"));
+    }
+
+    private static UserEmail userEmail(Long id, String email) {
+        return new UserEmail() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
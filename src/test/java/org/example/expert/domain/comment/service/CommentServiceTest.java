@@ -20,7 +20,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -100,16 +99,8 @@ class CommentServiceTest {
     public void 코멘트_가져오기() throws Exception {
         // given
         Long todoId = 1L;
-        Comment comment = new Comment();
-        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-
-        ReflectionTestUtils.setField(comment,"id",1L);
-        ReflectionTestUtils.setField(comment,"contents","comment");
-        ReflectionTestUtils.setField(comment,"user",user);
-
-        List<Comment> commentList = List.of(comment);
-        given(commentRepository.findByTodoIdWithUser(todoId )).willReturn(commentList);
+        CommentResponse comment = new CommentResponse(1L, "comment", 1L, "email");
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(List.of(comment));
 
         // when
         List<CommentResponse> result = commentService.getComments(todoId);
@@ -0,0 +1,110 @@
+package org.example.expert.domain.common;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 자주 호출되는 조회 쿼리가 Hibernate 가 실제로 만든 SQL 그대로 H2 EXPLAIN 에서 인덱스를 타는지 확인합니다.
+ * 엔티티의 @Index 가 빠지거나 쿼리가 바뀌어 전체 테이블 스캔으로 떨어지면 실패합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.expert.domain.common.QueryPlanTest$SqlCapture")
+@Import(PersistenceConfig.class)
+class QueryPlanTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void 일정_목록은_modified_at_id_인덱스_순서로_읽는다() {
+        assertIndexSorted(plan(() -> todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, 10))),
+                "IDX_TODOS_MODIFIED_AT_ID");
+        assertIndexSorted(plan(() -> todoRepository.findSliceByOrderByModifiedAtDesc(PageRequest.of(0, 10))),
+                "IDX_TODOS_MODIFIED_AT_ID");
+        assertIndexSorted(plan(() -> todoRepository.findFirstByCursor(PageRequest.of(0, 11))),
+                "IDX_TODOS_MODIFIED_AT_ID");
+        assertIndexSorted(plan(() -> todoRepository.findAfterCursor(LocalDateTime.now(), 1L, PageRequest.of(0, 11))),
+                "IDX_TODOS_MODIFIED_AT_ID");
+    }
+
+    // H2 는 외래 키마다 인덱스를 따로 만들기 때문에 todo_id 조회는 그쪽을 고를 수도 있어, 전체 스캔이 아닌지만 확인합니다.
+    @Test
+    void 일정_단건은_기본_키로_찾는다() {
+        assertNoTableScan(plan(() -> todoRepository.findResponseById(1L)));
+    }
+
+    @Test
+    void 일정별_담당자와_댓글은_전체_테이블을_스캔하지_않는다() {
+        assertNoTableScan(plan(() -> managerRepository.findResponsesByTodoId(1L)));
+        assertNoTableScan(plan(() -> commentRepository.findResponsesByTodoId(1L)));
+    }
+
+    @Test
+    void 엔티티에_선언한_인덱스가_스키마에_만들어진다() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class);
+
+        assertTrue(indexes.containsAll(List.of(
+                "IDX_TODOS_MODIFIED_AT_ID", "IDX_MANAGERS_TODO_ID_USER_ID", "IDX_COMMENTS_TODO_ID_ID")), indexes::toString);
+    }
+
+    // 쿼리를 실행해 Hibernate 가 만든 첫 SELECT 를 잡고, 같은 SQL 의 실행 계획을 돌려줍니다.
+    private String plan(Runnable query) {
+        query.run();
+        String sql = SqlCapture.STATEMENTS.get(0);
+        SqlCapture.STATEMENTS.clear();
+        Object[] parameters = sql.chars().filter(c -> c == '?').mapToObj(c -> (Object) 1).toArray();
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+
+    private static void assertNoTableScan(String plan) {
+        assertFalse(plan.contains("tableScan"), () -> "전체 테이블 스캔이 포함되었습니다.\n" + plan);
+    }
+
+    private static void assertIndexSorted(String plan, String index) {
+        assertNoTableScan(plan);
+        assertTrue(plan.contains(index), () -> index + " 인덱스를 사용하지 않습니다.\n" + plan);
+        assertTrue(plan.contains("index sorted"), () -> "인덱스 순서로 읽지 않고 정렬합니다.\n" + plan);
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.startsWith("select")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -17,6 +17,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.config.JsonBytes;
+import org.example.expert.config.JsonBytesHttpMessageConverter;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
@@ -33,6 +35,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -51,6 +54,9 @@ class ManagerControllerTest {
     @Autowired
     private ManagerController controller;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -58,6 +64,7 @@ class ManagerControllerTest {
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
             .setControllerAdvice(new GlobalExceptionHandler())
             .setCustomArgumentResolvers(resolver)
+            .setMessageConverters(new JsonBytesHttpMessageConverter(), new MappingJackson2HttpMessageConverter(objectMapper))
             .build();
     }
 
@@ -111,7 +118,7 @@ class ManagerControllerTest {
         ManagerResponse m2 = new ManagerResponse(2L, new UserResponse(2L, "em2"));
         ManagerResponse m3 = new ManagerResponse(3L, new UserResponse(3L, "em3"));
         List<ManagerResponse> l = List.of(m1, m2, m3);
-        given(managerService.getManagers(todoId)).willReturn(l);
+        given(managerService.getManagersJson(todoId)).willReturn(JsonBytes.heap(objectMapper.writeValueAsBytes(l)));
 
         // when / then
         mockMvc.perform(get("/todos/{todoId}/managers", todoId).contentType(MediaType.APPLICATION_JSON))
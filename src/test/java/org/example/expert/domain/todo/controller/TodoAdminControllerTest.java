@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@WebMvcTest(controllers = {TodoAdminController.class})
+class TodoAdminControllerTest {
+
+    @MockBean
+    private TodoAdminService todoAdminService;
+
+    @Autowired
+    private TodoAdminController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    public void 일정_일괄_삭제() throws Exception {
+        // given
+        given(todoAdminService.deleteTodos(List.of(1L, 2L, 3L))).willReturn(new TodoDeleteResponse(3));
+
+        // when / then
+        mockMvc.perform(delete("/admin/todos").param("ids", "1,2,3"))
+            .andExpect(status().is(HttpStatus.OK.value()))
+            .andExpect(jsonPath("$.deletedCount").value(3))
+            .andDo(print());
+    }
+}
@@ -4,9 +4,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -15,7 +18,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.config.JsonBytes;
+import org.example.expert.config.JsonBytesHttpMessageConverter;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -36,6 +42,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -52,6 +59,9 @@ class TodoControllerTest {
     @Autowired
     private TodoController controller;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private MockMvc mockMvc;
 
     @BeforeEach
@@ -59,6 +69,7 @@ class TodoControllerTest {
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
             .setControllerAdvice(new GlobalExceptionHandler())
             .setCustomArgumentResolvers(resolver)
+            .setMessageConverters(new JsonBytesHttpMessageConverter(), new MappingJackson2HttpMessageConverter(objectMapper))
             .build();
     }
 
@@ -97,7 +108,8 @@ class TodoControllerTest {
         long todoId = 1L;
         TodoResponse res = new TodoResponse(1L, "title", "contents", "weather",
             new UserResponse(1L, "email"), LocalDateTime.now(), LocalDateTime.now());
-        given(todoService.getTodo(todoId)).willReturn(res);
+        given(todoService.getTodoVersion(todoId)).willReturn(ResourceVersion.of(0L, LocalDateTime.now()));
+        given(todoService.getTodoJson(todoId)).willReturn(JsonBytes.direct(objectMapper.writeValueAsBytes(res)));
 
         // when / then
         mockMvc.perform(get("/todos/{todoId}", todoId)
@@ -135,6 +147,7 @@ class TodoControllerTest {
         Pageable pageable = PageRequest.of(1, 10);
         Page<TodoResponse> result = new PageImpl<>(List.of(tr1, tr2, tr3), pageable,1);
         given(todoService.getTodos(anyInt(), anyInt())).willReturn(result);
+        given(todoService.getTodoListVersion()).willReturn(ResourceVersion.of(3L, n));
 
         // when / then
         mockMvc.perform(get("/todos")
@@ -163,4 +176,78 @@ class TodoControllerTest {
             .andExpect(status().is(HttpStatus.OK.value()))
             .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void 일정_단건_조회_ETag_가_같으면_본문_없이_304_를_응답한다() throws Exception {
+        // given
+        long todoId = 1L;
+        ResourceVersion version = ResourceVersion.of(2L, LocalDateTime.of(2025, 1, 1, 0, 0));
+        given(todoService.getTodoVersion(todoId)).willReturn(version);
+
+        // when / then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                .header("If-None-Match", version.getETag()))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", version.getETag()))
+            .andDo(print());
+        verify(todoService, never()).getTodoJson(todoId);
+    }
+
+    @Test
+    public void 일정_목록은_버전이_바뀌면_새_ETag_와_본문을_응답한다() throws Exception {
+        // given
+        LocalDateTime n = LocalDateTime.of(2025, 1, 1, 0, 0);
+        ResourceVersion before = ResourceVersion.of(3L, n);
+        ResourceVersion after = ResourceVersion.of(2L, n);
+        given(todoService.getTodoListVersion()).willReturn(after);
+        given(todoService.getTodos(anyInt(), anyInt())).willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 3));
+
+        // when / then
+        mockMvc.perform(get("/todos")
+                .header("If-None-Match", before.getETag()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", after.getETag()))
+            .andExpect(jsonPath("$.content.size()").value(0))
+            .andDo(print());
+    }
+
+    @Test
+    public void 일정_목록은_If_Modified_Since_만으로는_304_를_응답하지_않는다() throws Exception {
+        // given
+        LocalDateTime n = LocalDateTime.of(2025, 1, 1, 0, 0);
+        given(todoService.getTodoListVersion()).willReturn(ResourceVersion.of(2L, n));
+        given(todoService.getTodos(anyInt(), anyInt())).willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 10), 2));
+
+        // when / then
+        mockMvc.perform(get("/todos")
+                .header("If-Modified-Since", "Wed, 01 Jan 2099 00:00:00 GMT"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Last-Modified"))
+            .andDo(print());
+    }
+
+    @Test
+    public void 일정_목록에_slice_와_cursor_를_함께_보내면_400_을_응답한다() throws Exception {
+        // when / then
+        mockMvc.perform(get("/todos")
+                .param("slice", "true")
+                .param("cursor", ""))
+            .andExpect(status().isBadRequest())
+            .andDo(print());
+
+        verify(todoService, never()).getTodoSlice(anyInt(), anyInt());
+        verify(todoService, never()).getTodosByCursor(any(), anyInt());
+    }
+
+    @Test
+    public void 일정_목록에_slice_false_와_cursor_를_보내면_커서_페이지로_응답한다() throws Exception {
+        // when / then
+        mockMvc.perform(get("/todos")
+                .param("slice", "false")
+                .param("cursor", ""))
+            .andExpect(status().isOk())
+            .andDo(print());
+
+        verify(todoService).getTodosByCursor("", 10);
+    }
+}
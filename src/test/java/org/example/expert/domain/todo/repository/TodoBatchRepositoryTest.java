@@ -0,0 +1,101 @@
+package org.example.expert.domain.todo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PersistenceConfig.class)
+class TodoBatchRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 일정과_담당자를_배치_크기만큼_묶어_INSERT_한다() {
+        // given
+        User user = new User("email@example.com", "password", UserRole.USER);
+        em.persist(user);
+        em.flush();
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            todos.add(new Todo("title" + i, "contents", "Sunny", user));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        todoRepository.insertAll(todos, 50);
+
+        // then
+        assertEquals(120, todos.stream().map(Todo::getId).distinct().count());
+        assertEquals(120L, em.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult());
+        assertEquals(120L, em.createQuery("SELECT COUNT(m) FROM Manager m WHERE m.user.id = :userId", Long.class)
+                .setParameter("userId", user.getId())
+                .getSingleResult());
+        // 행마다 INSERT 하면 240번이지만, 테이블별 3개 배치(50, 50, 20)와 시퀀스 조회 몇 번이면 끝납니다.
+        assertEquals(240, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 20, "prepared statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 일괄_삭제는_댓글_수와_관계없이_DELETE_세_번과_목록_버전_UPDATE_로_끝난다() {
+        // given
+        User user = new User("email@example.com", "password", UserRole.USER);
+        em.persist(user);
+        Todo fewComments = todoWithComments(user, 1);
+        Todo manyComments = todoWithComments(user, 30);
+        Todo kept = todoWithComments(user, 2);
+        em.flush();
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        statistics.clear();
+        int deletedFew = todoRepository.deleteAllInBulk(List.of(fewComments.getId()));
+        long fewStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        int deletedMany = todoRepository.deleteAllInBulk(List.of(manyComments.getId()));
+        long manyStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertEquals(1, deletedFew);
+        assertEquals(1, deletedMany);
+        assertEquals(4, fewStatements);
+        assertEquals(4, manyStatements);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of(kept.getId()), em.createQuery("SELECT t.id FROM Todo t", Long.class).getResultList());
+        assertEquals(2L, em.createQuery("SELECT COUNT(c) FROM Comment c", Long.class).getSingleResult());
+        assertEquals(1L, em.createQuery("SELECT COUNT(m) FROM Manager m", Long.class).getSingleResult());
+    }
+
+    private Todo todoWithComments(User user, int comments) {
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        em.persist(todo);
+        for (int i = 0; i < comments; i++) {
+            em.persist(new Comment("comment" + i, user, todo));
+        }
+        return todo;
+    }
+}
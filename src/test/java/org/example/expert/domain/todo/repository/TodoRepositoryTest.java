@@ -0,0 +1,177 @@
+package org.example.expert.domain.todo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoListVersion;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManager em;
+
+    private List<Long> expectedOrder;
+
+    // 25개의 일정 중 세 개씩 같은 modifiedAt 을 갖도록 만들어 id 로 순서가 갈리는 경우를 포함합니다.
+    @BeforeEach
+    void setUp() {
+        User user = new User("email@example.com", "password", UserRole.USER);
+        em.persist(user);
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Todo todo = new Todo("title" + i, "contents", "Sunny", user);
+            em.persist(todo);
+            todos.add(todo);
+        }
+        em.flush();
+        for (Todo todo : todos) {
+            em.createNativeQuery("UPDATE todos SET modified_at = ?1 WHERE id = ?2")
+                    .setParameter(1, BASE.plusMinutes(todo.getId() / 3))
+                    .setParameter(2, todo.getId())
+                    .executeUpdate();
+        }
+        em.clear();
+
+        expectedOrder = todos.stream()
+                .map(Todo::getId)
+                .sorted((a, b) -> {
+                    int byTime = Long.compare(b / 3, a / 3);
+                    return byTime != 0 ? byTime : Long.compare(b, a);
+                })
+                .toList();
+    }
+
+    @Test
+    void 커서를_따라가면_모든_일정을_한_번씩_modifiedAt_id_내림차순으로_읽는다() {
+        // given
+        int size = 4;
+        List<Long> visited = new ArrayList<>();
+
+        // when
+        List<TodoResponse> page = todoRepository.findFirstByCursor(PageRequest.of(0, size));
+        while (!page.isEmpty()) {
+            page.forEach(todo -> visited.add(todo.getId()));
+            TodoResponse last = page.get(page.size() - 1);
+            page = todoRepository.findAfterCursor(last.getModifiedAt(), last.getId(), PageRequest.of(0, size));
+        }
+
+        // then
+        assertEquals(expectedOrder, visited);
+    }
+
+    @Test
+    void 슬라이스는_마지막_페이지에서만_hasNext_가_false_다() {
+        // when
+        Slice<TodoResponse> middle = todoRepository.findSliceByOrderByModifiedAtDesc(PageRequest.of(5, 4));
+        Slice<TodoResponse> last = todoRepository.findSliceByOrderByModifiedAtDesc(PageRequest.of(6, 4));
+
+        // then
+        assertEquals(4, middle.getNumberOfElements());
+        assertTrue(middle.hasNext());
+        assertEquals(1, last.getNumberOfElements());
+        assertFalse(last.hasNext());
+        assertEquals(expectedOrder.get(24), last.getContent().get(0).getId());
+    }
+
+    @Test
+    void 일정을_쓰는_메서드는_모두_목록_버전을_올린다() {
+        // given
+        em.persist(new TodoListVersion(TodoListVersion.ID));
+        em.flush();
+        User user = em.createQuery("SELECT u FROM User u", User.class).getSingleResult();
+        List<Long> versions = new ArrayList<>();
+        versions.add(currentListVersion());
+
+        // when
+        Todo inserted = todoRepository.insert(new Todo("title", "contents", null, user));
+        versions.add(currentListVersion());
+        todoRepository.insertAll(List.of(new Todo("a", "contents", null, user), new Todo("b", "contents", null, user)), 50);
+        versions.add(currentListVersion());
+        todoRepository.fillWeather("Rainy", inserted.getCreatedAt().minusDays(1), inserted.getCreatedAt().plusDays(1));
+        versions.add(currentListVersion());
+        // 가장 최근에 수정된 일정이 아닌 일정을 지워도 버전은 바뀝니다.
+        todoRepository.deleteAllInBulk(List.of(expectedOrder.get(24)));
+        versions.add(currentListVersion());
+
+        // then
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), versions);
+    }
+
+    @Test
+    void 바뀐_일정이_없으면_목록_버전을_올리지_않는다() {
+        // given
+        em.persist(new TodoListVersion(TodoListVersion.ID));
+        em.flush();
+
+        // when
+        todoRepository.deleteAllInBulk(List.of(-1L));
+        todoRepository.fillWeather("Rainy", BASE.minusYears(10), BASE.minusYears(9));
+
+        // then
+        assertEquals(0L, currentListVersion());
+    }
+
+    @Test
+    void 날씨를_채우면_수정일도_바뀐다() {
+        // given
+        User user = em.createQuery("SELECT u FROM User u", User.class).getSingleResult();
+        Todo todo = new Todo("title", "contents", null, user);
+        em.persist(todo);
+        em.flush();
+        em.createQuery("UPDATE Todo t SET t.modifiedAt = :modifiedAt WHERE t.id = :id")
+                .setParameter("modifiedAt", BASE)
+                .setParameter("id", todo.getId())
+                .executeUpdate();
+
+        // when
+        todoRepository.fillWeather("Rainy", todo.getCreatedAt().minusDays(1), todo.getCreatedAt().plusDays(1));
+        em.clear();
+
+        // then
+        Todo filled = em.find(Todo.class, todo.getId());
+        assertEquals("Rainy", filled.getWeather());
+        assertTrue(filled.getModifiedAt().isAfter(BASE));
+    }
+
+    @Test
+    void 날씨가_없는_일정_조회는_인덱스를_탄다() {
+        // when
+        String plan = (String) em.createNativeQuery(
+                        "EXPLAIN SELECT MIN(created_at) FROM todos WHERE weather IS NULL AND created_at >= ?")
+                .setParameter(1, BASE)
+                .getSingleResult();
+
+        // then
+        assertTrue(plan.toUpperCase().contains("IDX_TODOS_WEATHER_CREATED_AT"), plan);
+    }
+
+    private long currentListVersion() {
+        em.clear();
+        return em.find(TodoListVersion.class, TodoListVersion.ID).getVersion();
+    }
+}
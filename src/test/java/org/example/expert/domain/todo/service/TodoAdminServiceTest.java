@@ -0,0 +1,58 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoDeleteResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TodoAdminServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TodoResponseCache todoResponseCache;
+    @Mock
+    private TodoCountCache todoCountCache;
+    @InjectMocks
+    private TodoAdminService todoAdminService;
+
+    @Test
+    public void 일정_일괄_삭제는_중복_id_를_한_번만_지우고_캐시를_무효화한다() {
+        // given
+        given(todoRepository.deleteAllInBulk(List.of(1L, 2L))).willReturn(2);
+
+        // when
+        TodoDeleteResponse response = todoAdminService.deleteTodos(List.of(1L, 2L, 1L));
+
+        // then
+        assertEquals(2, response.getDeletedCount());
+        verify(todoResponseCache, times(1)).invalidate(1L);
+        verify(todoResponseCache, times(1)).invalidate(2L);
+        verify(todoCountCache).add(-2);
+    }
+
+    @Test
+    public void 한_번에_1000개를_넘게_삭제할_수_없다() {
+        // given
+        List<Long> todoIds = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        // when / then
+        assertThrows(InvalidRequestException.class, () -> todoAdminService.deleteTodos(todoIds));
+        verify(todoRepository, never()).deleteAllInBulk(anyCollection());
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 커밋 이후에 무효화하므로 테스트 트랜잭션 없이 repository 호출마다 커밋합니다.
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoResponseCache.class, TodoCountCache.class, TodoCacheInvalidator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoCacheInvalidatorTest {
+
+    @Autowired
+    private TodoResponseCache todoResponseCache;
+    @Autowired
+    private TodoCountCache todoCountCache;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("owner@example.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        cached("cached");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 일정을_수정하면_캐시에서_지운다() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                todoRepository.findById(todo.getId()).orElseThrow().update("new title", "contents"));
+
+        // then
+        assertEquals("reloaded", cached("reloaded"));
+    }
+
+    @Test
+    void 댓글이_달리면_일정_캐시를_지운다() {
+        // when
+        commentRepository.save(new Comment("comment", user, todo));
+
+        // then
+        assertEquals("reloaded", cached("reloaded"));
+    }
+
+    @Test
+    void 담당자를_지우면_일정_캐시를_지운다() {
+        // given
+        User other = userRepository.save(new User("manager@example.com", "password", UserRole.USER));
+        Manager manager = managerRepository.save(new Manager(other, todo));
+        cached("cached");
+        long version = todoResponseCache.version(todo.getId());
+
+        // when
+        managerRepository.deleteById(manager.getId());
+
+        // then
+        assertEquals("reloaded", cached("reloaded"));
+        assertNotEquals(version, todoResponseCache.version(todo.getId()));
+    }
+
+    @Test
+    void 롤백된_변경은_캐시에_영향이_없다() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            commentRepository.save(new Comment("comment", user, todo));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals("cached", cached("reloaded"));
+    }
+
+    @Test
+    void 일정이_추가_삭제되면_캐시된_개수도_고친다() {
+        // given
+        long counted = todoCountCache.refresh().getCount();
+
+        // when
+        Todo added = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        long afterInsert = todoCountCache.get().getCount();
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteById(added.getId());
+        long afterDelete = todoCountCache.get().getCount();
+
+        // then
+        assertEquals(counted + 1, afterInsert);
+        assertEquals(counted, afterDelete);
+    }
+
+    // 캐시에 있으면 그 제목을, 없으면 title 로 채운 뒤 그 제목을 돌려줍니다.
+    private String cached(String title) {
+        return todoResponseCache.get(todo.getId(),
+                id -> new TodoResponse(id, title, "contents", "Sunny", user.getId(), user.getEmail(), null, null, 0L)).getTitle();
+    }
+}
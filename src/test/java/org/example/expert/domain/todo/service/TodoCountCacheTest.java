@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountCacheTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @InjectMocks
+    private TodoCountCache todoCountCache;
+
+    @Test
+    void 갱신_전까지는_마지막으로_센_값을_돌려준다() {
+        // given
+        given(todoRepository.count()).willReturn(10L, 12L);
+
+        // when
+        long first = todoCountCache.get().getCount();
+        long cached = todoCountCache.get().getCount();
+        todoCountCache.refresh();
+        long refreshed = todoCountCache.get().getCount();
+
+        // then
+        assertEquals(10L, first);
+        assertEquals(10L, cached);
+        assertEquals(12L, refreshed);
+        verify(todoRepository, times(2)).count();
+    }
+
+    @Test
+    void 이_노드의_추가_삭제는_다음_집계_전에도_반영한다() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+        todoCountCache.add(5);
+        todoCountCache.get();
+
+        // when
+        todoCountCache.add(2);
+        todoCountCache.add(-3);
+
+        // then
+        assertEquals(9L, todoCountCache.get().getCount());
+        verify(todoRepository, times(1)).count();
+    }
+
+    @Test
+    void 집계_중에_반영한_변경은_집계_결과에_덮이지_않는다() {
+        // given
+        given(todoRepository.count()).willReturn(10L);
+        todoCountCache.get();
+        given(todoRepository.count()).willAnswer(invocation -> {
+            todoCountCache.add(-2);
+            return 10L;
+        });
+
+        // when
+        todoCountCache.refresh();
+
+        // then
+        assertEquals(8L, todoCountCache.get().getCount());
+    }
+
+    @Test
+    void 처음에_동시에_들어온_요청은_한_번의_집계를_함께_쓴다() throws Exception {
+        // given
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(todoRepository.count()).willAnswer(invocation -> {
+            counting.countDown();
+            release.await();
+            return 10L;
+        });
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> results = new ArrayList<>();
+            results.add(executor.submit(() -> todoCountCache.get().getCount()));
+            counting.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> todoCountCache.get().getCount()));
+            }
+            release.countDown();
+
+            // then
+            for (Future<Long> result : results) {
+                assertEquals(10L, result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        verify(todoRepository, times(1)).count();
+    }
+}
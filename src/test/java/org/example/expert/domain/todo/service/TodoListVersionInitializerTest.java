@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.TodoListVersion;
+import org.example.expert.domain.todo.repository.TodoListVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoListVersionInitializer.class})
+class TodoListVersionInitializerTest {
+
+    @Autowired
+    private TodoListVersionRepository todoListVersionRepository;
+    @Autowired
+    private TodoListVersionInitializer todoListVersionInitializer;
+
+    @Test
+    void 기동_시_목록_버전_행을_한_번만_만든다() {
+        // when
+        todoListVersionInitializer.initialize();
+
+        // then
+        assertEquals(1L, todoListVersionRepository.count());
+        assertEquals(0L, todoListVersionRepository.findCurrent().orElseThrow());
+        assertEquals(TodoListVersion.ID, todoListVersionRepository.findAll().get(0).getId());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class TodoResponseCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final TodoResponseCache cache = new TodoResponseCache(1 << 20, Duration.ofSeconds(60), nanos::get);
+
+    @Test
+    void 같은_id_를_동시에_못_찾으면_한_번만_조회한다() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        Future<TodoResponse> first = executor.submit(() -> cache.get(1L, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return response(id, "title");
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        Future<TodoResponse> second = executor.submit(() -> cache.get(1L, id -> response(id, "other")));
+        Future<TodoResponse> third = executor.submit(() -> cache.get(1L, id -> response(id, "other")));
+        release.countDown();
+
+        // then
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        assertSame(first.get(), third.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void 조회_중에_무효화되면_그_결과를_캐시에_남기지_않는다() {
+        // when
+        cache.get(1L, id -> {
+            cache.invalidate(id);
+            return response(id, "old");
+        });
+
+        // then
+        assertEquals("new", cache.get(1L, id -> response(id, "new")).getTitle());
+    }
+
+    @Test
+    void TTL_이_지나면_다시_조회한다() {
+        // given
+        cache.get(1L, id -> response(id, "old"));
+
+        // when
+        TodoResponse beforeTtl = cache.get(1L, id -> response(id, "new"));
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        TodoResponse afterTtl = cache.get(1L, id -> response(id, "new"));
+
+        // then
+        assertEquals("old", beforeTtl.getTitle());
+        assertEquals("new", afterTtl.getTitle());
+    }
+
+    @Test
+    void 버전은_무효화될_때까지_유지되고_무효화되면_예전에_쓰지_않은_값으로_바뀐다() {
+        // given
+        long first = cache.version(1L);
+        long other = cache.version(2L);
+
+        // when
+        long unchanged = cache.version(1L);
+        cache.invalidate(1L);
+        long changed = cache.version(1L);
+        cache.invalidateAll();
+
+        // then
+        assertEquals(first, unchanged);
+        assertNotEquals(first, changed);
+        assertNotEquals(other, changed);
+        assertNotEquals(other, cache.version(2L));
+        assertNotEquals(changed, cache.version(1L));
+    }
+
+    @Test
+    void 조회_예외는_전파되고_캐시되지_않는다() {
+        // when
+        assertThrows(InvalidRequestException.class,
+                () -> cache.get(1L, id -> {
+                    throw new InvalidRequestException("Todo not found");
+                }));
+
+        // then
+        assertEquals("title", cache.get(1L, id -> response(id, "title")).getTitle());
+    }
+
+    private static TodoResponse response(long id, String title) {
+        return new TodoResponse(id, title, "contents", "Sunny", 1L, "email", null, null, 0L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,20 +1,44 @@
 package org.example.expert.domain.todo.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.config.JsonBytes;
+import org.example.expert.config.JsonBytesCache;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCountResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoListVersionRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -22,9 +46,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +61,15 @@ class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
     @Mock
-    private WeatherClient weatherClient;
+    private TodoListVersionRepository todoListVersionRepository;
+    @Mock
+    private WeatherProvider weatherProvider;
+    @Mock
+    private TodoCountCache todoCountCache;
+    @Spy
+    private TodoResponseCache todoResponseCache = new TodoResponseCache(1 << 20, Duration.ofMinutes(1), Ticker.systemTicker());
+    @Spy
+    private JsonBytesCache jsonBytesCache = new JsonBytesCache(new ObjectMapper().findAndRegisterModules(), 1 << 20, 60_000, "heap");
     @InjectMocks
     private TodoService todoService;
 
@@ -46,10 +82,10 @@ class TodoServiceTest {
 
         TodoSaveRequest request = new TodoSaveRequest("title", "contents");
         Todo todo = new Todo(request.getTitle(), request.getContents(), "test", user);
-        given(todoRepository.save(any(Todo.class))).willReturn(todo);
+        given(todoRepository.insert(any(Todo.class))).willReturn(todo);
 
         // when
-        when(weatherClient.getTodayWeather()).thenReturn("test");
+        when(weatherProvider.getTodayWeather()).thenReturn("test");
         TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, request);
 
         // then
@@ -60,24 +96,104 @@ class TodoServiceTest {
         assertEquals(todoSaveResponse.getUser().getEmail(), user.getEmail());
     }
 
-    // gets
     @Test
-    public void 일정목록조회() throws Exception {
+    public void 일정_일괄_저장은_날씨를_한_번만_조회하고_배치로_저장한다() throws Exception {
+        // given
+        ReflectionTestUtils.setField(todoService, "jdbcBatchSize", 50);
+        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("title2", "contents2")));
+        given(weatherProvider.getTodayWeather()).willReturn("Sunny");
+        doAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            for (int i = 0; i < todos.size(); i++) {
+                ReflectionTestUtils.setField(todos.get(i), "id", 10L + i);
+            }
+            return null;
+        }).when(todoRepository).insertAll(anyList(), eq(50));
+
+        // when
+        TodoBatchSaveResponse response = todoService.saveTodos(authUser, request);
+
+        // then
+        assertEquals(List.of(10L, 11L), response.getIds());
+        verify(weatherProvider, times(1)).getTodayWeather();
+    }
+
+    @Test
+    public void 날씨_지연_모드에서는_날씨를_조회하지_않고_저장한다() throws Exception {
         // given
+        ReflectionTestUtils.setField(todoService, "deferredWeather", true);
         AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
         User user = User.fromAuthUser(authUser);
 
         TodoSaveRequest request = new TodoSaveRequest("title", "contents");
-        Todo todo = new Todo(request.getTitle(), request.getContents(), "test", user);
+        given(todoRepository.insert(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, request);
+
+        // then
+        assertNull(todoSaveResponse.getWeather());
+        verify(weatherProvider, never()).getTodayWeather();
+    }
+
+    @Test
+    public void 커서_목록_조회시_size_보다_한_건_더_읽어_다음_커서를_만든다() throws Exception {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<TodoResponse> todos = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            todos.add(new TodoResponse(id, "title", "contents", "Sunny", 1L, "email", modifiedAt, modifiedAt, 0L));
+        }
+        given(todoRepository.findFirstByCursor(PageRequest.of(0, 3))).willReturn(todos);
+        given(todoRepository.findAfterCursor(modifiedAt, 2L, PageRequest.of(0, 3))).willReturn(todos.subList(2, 3));
+
+        // when
+        TodoCursorResponse first = todoService.getTodosByCursor("", 2);
+        TodoCursorResponse second = todoService.getTodosByCursor(first.getNextCursor(), 2);
+
+        // then
+        assertEquals(2, first.getContent().size());
+        assertEquals(1, second.getContent().size());
+        assertEquals(1L, second.getContent().get(0).getId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    public void 잘못된_커서로_조회하면_예외가_발생한다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodosByCursor("not-a-cursor", 10));
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+
+    @Test
+    public void 커서_조회의_size_가_범위를_벗어나면_예외가_발생한다() {
+        for (int size : new int[]{0, -1, 101, Integer.MAX_VALUE}) {
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.getTodosByCursor("", size));
+            assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+        }
+        verifyNoInteractions(todoRepository);
+    }
+
+    // gets
+    @Test
+    public void 일정목록조회() throws Exception {
+        // given
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "test", 1L, "email", null, null, 0L);
 
-        ArrayList<Todo> todos = new ArrayList<>();
+        ArrayList<TodoResponse> todos = new ArrayList<>();
         todos.add(todo);
         todos.add(todo);
         todos.add(todo);
         todos.add(todo);
         todos.add(todo);
 
-        Page<Todo> page =  new PageImpl<Todo>(todos);
+        Page<TodoResponse> page =  new PageImpl<TodoResponse>(todos);
         given(todoRepository.findAllByOrderByModifiedAtDesc(any())).willReturn(page);
 
         // when
@@ -87,12 +203,28 @@ class TodoServiceTest {
         assertEquals(todos1.getTotalElements(), 5);
     }
 
+    @Test
+    public void 슬라이스_목록조회시_count_없이_다음_페이지_여부만_돌려준다() throws Exception {
+        // given
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "test", 1L, "email", null, null, 0L);
+        Slice<TodoResponse> slice = new SliceImpl<>(List.of(todo, todo), PageRequest.of(1, 2), true);
+        given(todoRepository.findSliceByOrderByModifiedAtDesc(PageRequest.of(1, 2))).willReturn(slice);
+
+        // when
+        Slice<TodoResponse> result = todoService.getTodoSlice(2, 2);
+
+        // then
+        assertEquals(2, result.getNumberOfElements());
+        assertEquals(true, result.hasNext());
+        verify(todoRepository, never()).findAllByOrderByModifiedAtDesc(any());
+    }
+
     // get
     @Test
     public void 일정단건조회_일정_찾을_수_없을_때() throws Exception {
         // given
         long todoId = 1L;
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.empty());
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.empty());
         // when/then
         InvalidRequestException ex = assertThrows(
             InvalidRequestException.class, () -> todoService.getTodo(todoId));
@@ -102,24 +234,96 @@ class TodoServiceTest {
     @Test
     public void 일정단건조회() throws Exception {
         // given
-        AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-        User user = User.fromAuthUser(authUser);
-
-        TodoSaveRequest request = new TodoSaveRequest("title", "contents");
-        Todo todo = new Todo(request.getTitle(), request.getContents(), "test", user);
         long todoId = 1L;
-        ReflectionTestUtils.setField(todo, "id", todoId);
+        TodoResponse todo = new TodoResponse(todoId, "title", "contents", "test", 1L, "email", null, null, 0L);
 
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.of(todo));
 
         // when
         TodoResponse res = todoService.getTodo(todoId);
 
         // then
-        assertEquals(res.getId(), todo.getId());
-        assertEquals(res.getTitle(), todo.getTitle());
-        assertEquals(res.getContents(), todo.getContents());
-        assertEquals(res.getUser().getId(), todo.getUser().getId());
-        assertEquals(res.getUser().getEmail(), todo.getUser().getEmail());
+        assertEquals(res.getId(), todoId);
+        assertEquals(res.getTitle(), "title");
+        assertEquals(res.getContents(), "contents");
+        assertEquals(res.getUser().getId(), 1L);
+        assertEquals(res.getUser().getEmail(), "email");
+    }
+
+    @Test
+    public void 일정단건조회_JSON_은_무효화될_때까지_캐시된_바이트를_쓴다() throws Exception {
+        // given
+        long todoId = 1L;
+        TodoResponse todo = new TodoResponse(todoId, "title", "contents", "test", 1L, "email", null, null, 0L);
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.of(todo));
+
+        // when
+        JsonBytes first = todoService.getTodoJson(todoId);
+        JsonBytes cached = todoService.getTodoJson(todoId);
+        todoResponseCache.invalidate(todoId);
+        JsonBytes reloaded = todoService.getTodoJson(todoId);
+
+        // then
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        first.writeTo(out);
+        assertEquals(out.toString(), new ObjectMapper().findAndRegisterModules().writeValueAsString(todo));
+        assertSame(first, cached);
+        assertNotSame(first, reloaded);
+        verify(todoRepository, times(2)).findResponseById(todoId);
+    }
+
+    // delete
+    @Test
+    public void 일정을_만든_유저가_아니면_삭제할_수_없다() throws Exception {
+        // given
+        long todoId = 1L;
+        User owner = new User("owner@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(owner, "id", 1L);
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(new Todo("title", "contents", "Sunny", owner)));
+
+        // when
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class,
+            () -> todoService.deleteTodo(new AuthUser(2L, "other@example.com", UserRole.USER), todoId));
+
+        // then
+        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", ex.getMessage());
+        verify(todoRepository, never()).deleteAllInBulk(any());
+    }
+
+    @Test
+    public void 일정을_삭제하면_일괄_삭제_후_캐시를_무효화한다() throws Exception {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "owner@example.com", UserRole.USER);
+        given(todoRepository.findById(todoId))
+            .willReturn(Optional.of(new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser))));
+        given(todoRepository.deleteAllInBulk(List.of(todoId))).willReturn(1);
+        long version = todoResponseCache.version(todoId);
+
+        // when
+        todoService.deleteTodo(authUser, todoId);
+
+        // then
+        verify(todoRepository, times(1)).deleteAllInBulk(List.of(todoId));
+        verify(todoResponseCache, times(1)).invalidate(todoId);
+        verify(todoCountCache).add(-1);
+        assertNotEquals(version, todoResponseCache.version(todoId));
+    }
+
+    @Test
+    public void 목록_ETag_는_목록_버전으로_정해진다() throws Exception {
+        // given
+        given(todoListVersionRepository.findCurrent()).willReturn(Optional.of(3L), Optional.of(3L), Optional.of(4L));
+
+        // when
+        String first = todoService.getTodoListVersion().getETag();
+        String same = todoService.getTodoListVersion().getETag();
+        String afterDelete = todoService.getTodoListVersion().getETag();
+
+        // then
+        assertEquals(first, same);
+        assertNotEquals(first, afterDelete);
+        verify(todoRepository, never()).count();
+        verify(todoCountCache, never()).get();
     }
-}
\ No newline at end of file
+}
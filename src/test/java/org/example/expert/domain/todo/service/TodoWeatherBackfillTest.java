@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.example.expert.client.WeatherProvider;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherBackfillTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherProvider weatherProvider;
+    @Mock
+    private TodoResponseCache todoResponseCache;
+    @InjectMocks
+    private TodoWeatherBackfill todoWeatherBackfill;
+
+    @Test
+    void 작성일별로_한_번씩_날씨를_채운다() {
+        // given
+        LocalDate first = LocalDate.of(2025, 1, 1);
+        LocalDate second = LocalDate.of(2025, 1, 3);
+        given(todoRepository.findOldestCreatedAtWithoutWeather(any()))
+                .willReturn(first.atTime(9, 0), second.atTime(18, 30), null);
+        given(weatherProvider.findWeather(first)).willReturn("Sunny");
+        given(weatherProvider.findWeather(second)).willReturn("Rainy");
+        given(todoRepository.fillWeather("Sunny", first.atStartOfDay(), first.plusDays(1).atStartOfDay())).willReturn(3);
+
+        // when
+        todoWeatherBackfill.backfill();
+
+        // then
+        verify(todoRepository).fillWeather("Sunny", first.atStartOfDay(), first.plusDays(1).atStartOfDay());
+        verify(todoRepository).fillWeather("Rainy", second.atStartOfDay(), second.plusDays(1).atStartOfDay());
+        verify(todoRepository).findOldestCreatedAtWithoutWeather(first.plusDays(1).atStartOfDay());
+        // 실제로 바뀐 일정이 있었던 날짜(first)만 응답 캐시를 비웁니다.
+        verify(todoResponseCache, times(1)).invalidateAll();
+    }
+
+    @Test
+    void 피드에_없는_날짜는_건너뛴다() {
+        // given
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        given(todoRepository.findOldestCreatedAtWithoutWeather(any()))
+                .willReturn(date.atTime(9, 0), (LocalDateTime) null);
+        given(weatherProvider.findWeather(date)).willReturn(null);
+
+        // when
+        todoWeatherBackfill.backfill();
+
+        // then
+        verify(todoRepository, never()).fillWeather(anyString(), any(), any());
+    }
+
+    @Test
+    void 날씨를_가져오지_못하면_다음_실행으로_미룬다() {
+        // given
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        given(todoRepository.findOldestCreatedAtWithoutWeather(any())).willReturn(date.atTime(9, 0));
+        given(weatherProvider.findWeather(date)).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when
+        todoWeatherBackfill.backfill();
+
+        // then
+        verify(todoRepository, never()).fillWeather(anyString(), any(), any());
+    }
+}
@@ -15,11 +15,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.config.GlobalExceptionHandler;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -67,6 +69,7 @@ class UserControllerTest {
         UserResponse ur = new UserResponse(1L, "email");
         ManagerSaveRequest msrq = new ManagerSaveRequest(1L);
        given(userService.getUser(userId)).willReturn(ur);
+       given(userService.getUserVersion(userId)).willReturn(ResourceVersion.of(LocalDateTime.now()));
         // when / then
         mockMvc.perform(get("/users/{userId}", userId)
                 .contentType(MediaType.APPLICATION_JSON))